@@ -0,0 +1,53 @@
+package com.umamusume.backend.benchmark;
+
+import com.umamusume.backend.entity.Horse;
+import com.umamusume.backend.entity.Race;
+import com.umamusume.backend.entity.User;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    static User owner() {
+        User owner = new User("bench-owner");
+        owner.setId(UUID.randomUUID());
+        owner.setCreatedAt(OffsetDateTime.now());
+        return owner;
+    }
+
+    static Race race() {
+        Race race = new Race("bench-race", OffsetDateTime.now());
+        race.setId(UUID.randomUUID());
+        return race;
+    }
+
+    static Horse horse(User owner, SplittableRandom random) {
+        Horse horse = new Horse("bench-horse", owner);
+        horse.setId(UUID.randomUUID());
+        horse.setCreatedAt(OffsetDateTime.now());
+        horse.setSpeed(random.nextInt(1, 101));
+        horse.setStamina(random.nextInt(1, 101));
+        horse.setPower(random.nextInt(1, 101));
+        horse.setGuts(random.nextInt(1, 101));
+        horse.setIntelligence(random.nextInt(1, 101));
+        horse.setLevel(random.nextInt(1, 11));
+        horse.setExperience(random.nextInt(0, 1000));
+        return horse;
+    }
+
+    static List<Horse> field(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        User owner = owner();
+        List<Horse> horses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            horses.add(horse(owner, random));
+        }
+        return horses;
+    }
+}
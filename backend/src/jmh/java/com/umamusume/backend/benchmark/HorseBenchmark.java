@@ -0,0 +1,81 @@
+package com.umamusume.backend.benchmark;
+
+import com.umamusume.backend.dto.HorseResponseDto;
+import com.umamusume.backend.entity.Horse;
+import com.umamusume.backend.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Horse entity game logic: levelling, breeding and DTO mapping.
+ * Parameters live on separate states so each benchmark only sweeps its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HorseBenchmark {
+
+    @State(Scope.Thread)
+    public static class Parents {
+        User owner;
+        Horse sire;
+        Horse dam;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(42L);
+            owner = BenchmarkData.owner();
+            sire = BenchmarkData.horse(owner, random);
+            dam = BenchmarkData.horse(owner, random);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Experience {
+        @Param({"100", "10000", "1000000"})
+        int gained;
+
+        User owner;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            owner = BenchmarkData.owner();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Field {
+        @Param({"2", "100", "10000"})
+        int size;
+
+        List<Horse> horses;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            horses = BenchmarkData.field(size, 42L);
+        }
+    }
+
+    @Benchmark
+    public Horse addExperienceLevelUps(Experience state) {
+        Horse horse = new Horse("bench-horse", state.owner);
+        horse.addExperience(state.gained);
+        return horse;
+    }
+
+    @Benchmark
+    public Horse breed(Parents state) {
+        return new Horse("bench-foal", state.owner, state.sire, state.dam, state.random);
+    }
+
+    @Benchmark
+    public void mapToDto(Field state, Blackhole blackhole) {
+        for (Horse horse : state.horses) {
+            blackhole.consume(HorseResponseDto.fromEntity(horse));
+        }
+    }
+}
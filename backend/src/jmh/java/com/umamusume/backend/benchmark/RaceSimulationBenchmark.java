@@ -0,0 +1,63 @@
+package com.umamusume.backend.benchmark;
+
+import com.umamusume.backend.entity.Horse;
+import com.umamusume.backend.entity.Race;
+import com.umamusume.backend.entity.RaceResult;
+import com.umamusume.backend.service.GameRandom;
+import com.umamusume.backend.service.RaceScoringKernel;
+import com.umamusume.backend.service.RaceSimulationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Race scoring without persistence, the primitive kernel on its own, and the
+ * per-horse performance formula.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RaceSimulationBenchmark {
+
+    @Param({"2", "8", "18", "100", "1000", "10000"})
+    int fieldSize;
+
+    private RaceSimulationService service;
+    private Race race;
+    private List<Horse> field;
+    private RaceScoringKernel kernel;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Repositories are never touched by scoreRace
+        service = new RaceSimulationService(null, null, null, null, null, null, new GameRandom(), null,
+                new SimpleMeterRegistry());
+        race = BenchmarkData.race();
+        field = BenchmarkData.field(fieldSize, 42L);
+        kernel = RaceScoringKernel.of(field);
+        random = new SplittableRandom(7L);
+    }
+
+    @Benchmark
+    public List<RaceResult> scoreRace() {
+        return service.scoreRace(race, field, random);
+    }
+
+    @Benchmark
+    public int kernelRun() {
+        kernel.run(random);
+        return kernel.finisher(0);
+    }
+
+    @Benchmark
+    public void racePerformance(Blackhole blackhole) {
+        for (Horse horse : field) {
+            blackhole.consume(horse.getRacePerformance());
+        }
+    }
+}
@@ -0,0 +1,529 @@
+package com.umamusume.backend;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Bulk-loads a synthetic dataset with Postgres COPY, then exits. Lives in
+ * {@code src/loadtest}, on the test classpath only, so it never ships in the
+ * application jar. Run the application from the test classpath with the
+ * {@code seed} profile against a migrated database, e.g.
+ * <pre>
+ * mvn spring-boot:test-run -Dspring-boot.run.main-class=com.umamusume.backend.UmamusumeBackendApplication \
+ *     -Dspring-boot.run.profiles=seed -Dspring-boot.run.arguments=--game.seed.horses=1000000
+ * </pre>
+ * Everything is loaded in one transaction, so a failed run leaves no partial data.
+ */
+@Component
+@Profile("seed")
+public class DatasetSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    private static final String[] NAME_PREFIXES = {
+        "Silent", "Special", "Gold", "Tokai", "Mejiro", "Oguri", "Rice", "Symboli", "Super", "Grass",
+        "Daiwa", "Vodka", "Haru", "Manhattan", "Agnes", "Seiun", "Nice", "Twin", "King", "Mihono"
+    };
+    private static final String[] NAME_SUFFIXES = {
+        "Suzuka", "Week", "Ship", "Teio", "McQueen", "Cap", "Shower", "Rudolf", "Creek", "Wonder",
+        "Scarlet", "Urara", "Cafe", "Tachyon", "Sky", "Nature", "Turbo", "Halo", "Bourbon", "Dober"
+    };
+    private static final String[] RACE_TYPES = {"NORMAL", "STAKES", "HANDICAP"};
+    private static final int[] DISTANCES = {1200, 1400, 1600, 1800, 2000, 2400, 3000, 3200};
+    private static final String[] TRACK_CONDITIONS = {"GOOD", "FIRM", "SOFT", "HEAVY"};
+
+    // Mirrors RaceSimulationService's prize distribution
+    private static final double[] PRIZE_MULTIPLIERS = {1.0, 0.3, 0.2, 0.1, 0.05, 0.02, 0.01, 0.005};
+    // HorseRepository.findRaceCandidates never enters a horse with this many starts
+    private static final int MAX_RACES_RUN = 50;
+
+    private final DataSource dataSource;
+    private final ConfigurableApplicationContext context;
+
+    private final int userCount;
+    private final int horseCount;
+    private final int completedRaceCount;
+    private final int upcomingRaceCount;
+    private final int fieldSize;
+    private final long randomSeed;
+
+    public DatasetSeeder(DataSource dataSource,
+                         ConfigurableApplicationContext context,
+                         @Value("${game.seed.users:10000}") int userCount,
+                         @Value("${game.seed.horses:100000}") int horseCount,
+                         @Value("${game.seed.completed-races:50000}") int completedRaceCount,
+                         @Value("${game.seed.upcoming-races:1000}") int upcomingRaceCount,
+                         @Value("${game.seed.field-size:8}") int fieldSize,
+                         @Value("${game.seed.random-seed:42}") long randomSeed) {
+        this.dataSource = dataSource;
+        this.context = context;
+        this.userCount = userCount;
+        this.horseCount = horseCount;
+        this.completedRaceCount = completedRaceCount;
+        this.upcomingRaceCount = upcomingRaceCount;
+        this.fieldSize = fieldSize;
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        seed();
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    /**
+     * Loads the dataset in one transaction without exiting; also used directly
+     * by the integration tests to get realistic table sizes for query plans.
+     */
+    public void seed() throws SQLException {
+        if (fieldSize < 2 || fieldSize > horseCount) {
+            throw new IllegalArgumentException("Field size must be between 2 and the number of horses");
+        }
+        if ((long) completedRaceCount * fieldSize > (long) horseCount * MAX_RACES_RUN) {
+            throw new IllegalArgumentException("Too many completed races for " + horseCount
+                    + " horses at " + MAX_RACES_RUN + " races each");
+        }
+
+        long started = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            new Run(connection).seed();
+            connection.commit();
+        }
+        log.info("Seeding finished in {}", Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    /** State for a single seeding run; ids are kept in memory so later tables can reference them. */
+    private final class Run {
+
+        private final Connection connection;
+        private final CopyManager copyManager;
+        private final SplittableRandom random = new SplittableRandom(randomSeed);
+        // Usernames are unique, so tag them per run to allow seeding into a non-empty database
+        private final String runTag = Long.toString(System.currentTimeMillis(), 36);
+        private final OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+
+        private UUID[] userIds;
+        private UUID[] horseIds;
+        private int[] racesRun;
+        private int uncapped;
+
+        Run(Connection connection) throws SQLException {
+            this.connection = connection;
+            this.copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        }
+
+        void seed() throws SQLException {
+            checkProjectionsCaughtUp();
+            seedUsers();
+            seedHorses();
+            seedRaces();
+            appendRaceEvents();
+            deriveCareers();
+            moveCheckpoints();
+            rebuildRollups();
+        }
+
+        /*
+         * The checkpoints are moved past the seeded events at the end, which would
+         * also skip any earlier event the projections have not applied yet.
+         */
+        private void checkProjectionsCaughtUp() throws SQLException {
+            try (Statement statement = connection.createStatement();
+                 ResultSet pending = statement.executeQuery("""
+                         SELECT COUNT(*) FROM race_events e
+                         JOIN projection_checkpoints c
+                           ON (e.tx_id, e.id) > (CAST(CAST(c.tx_id AS TEXT) AS XID8), c.event_id)
+                         """)) {
+                pending.next();
+                if (pending.getLong(1) > 0) {
+                    throw new IllegalStateException(pending.getLong(1)
+                            + " race events are not projected yet; let the backend catch up before seeding");
+                }
+            }
+        }
+
+        private void seedUsers() throws SQLException {
+            userIds = new UUID[userCount];
+            try (CopyWriter out = copy("users (id, username, created_at)")) {
+                for (int i = 0; i < userCount; i++) {
+                    userIds[i] = nextUuid();
+                    out.field(userIds[i]).field("trainer_" + runTag + "_" + i).last(pastTimestamp(365));
+                }
+            }
+            log.info("Seeded {} users", userCount);
+        }
+
+        /**
+         * The first tenth of the horses are founders; every later horse is bred from
+         * two earlier ones, so lineage queries see realistic multi-generation trees.
+         * Careers start empty, like a new horse's; {@link #deriveCareers} fills them
+         * in from the seeded results.
+         */
+        private void seedHorses() throws SQLException {
+            horseIds = new UUID[horseCount];
+            racesRun = new int[horseCount];
+            uncapped = horseCount;
+            int founders = Math.max(2, horseCount / 10);
+            try (CopyWriter out = copy("horses (id, name, owner_id, created_at, speed, stamina, power, guts, "
+                    + "intelligence, sire_id, dam_id, level, experience, training_points, races_won, races_run, "
+                    + "total_earnings, version)")) {
+                for (int i = 0; i < horseCount; i++) {
+                    horseIds[i] = nextUuid();
+                    out.field(horseIds[i])
+                            .field(horseName(i))
+                            .field(userIds[random.nextInt(userCount)])
+                            .field(pastTimestamp(365))
+                            .field(stat()).field(stat()).field(stat()).field(stat()).field(stat())
+                            .field(i < founders ? null : horseIds[random.nextInt(i)])
+                            .field(i < founders ? null : horseIds[random.nextInt(i)])
+                            .field(1)
+                            .field(0)
+                            .field(random.nextInt(20))
+                            .field(0)
+                            .field(0)
+                            .field(0)
+                            .last(0);
+                }
+            }
+            log.info("Seeded {} horses", horseCount);
+        }
+
+        /**
+         * Completed races get a full field of results plus their summary row; upcoming
+         * races are left open for the scheduler.
+         */
+        private void seedRaces() throws SQLException {
+            int totalRaces = completedRaceCount + upcomingRaceCount;
+            UUID[] raceIds = new UUID[totalRaces];
+            int[] basePrizes = new int[totalRaces];
+            OffsetDateTime[] scheduled = new OffsetDateTime[completedRaceCount];
+
+            try (CopyWriter out = copy("races (id, name, scheduled_at, created_at, base_prize, min_level, max_level, "
+                    + "max_participants, race_type, distance, track_condition, is_completed, seed)")) {
+                for (int i = 0; i < totalRaces; i++) {
+                    boolean completed = i < completedRaceCount;
+                    raceIds[i] = nextUuid();
+                    basePrizes[i] = 500 + random.nextInt(20) * 250;
+                    OffsetDateTime scheduledAt = completed
+                            ? pastTimestamp(365)
+                            : now.plusSeconds(random.nextLong(Duration.ofDays(7).toSeconds()));
+                    if (completed) {
+                        scheduled[i] = scheduledAt;
+                    }
+                    int minLevel = 1 + random.nextInt(10);
+                    out.field(raceIds[i])
+                            .field("Race " + runTag + " #" + i)
+                            .field(scheduledAt)
+                            .field(completed ? scheduledAt.minusDays(1) : now)
+                            .field(basePrizes[i])
+                            .field(minLevel)
+                            .field(Math.min(10, minLevel + random.nextInt(5)))
+                            .field(fieldSize)
+                            .field(RACE_TYPES[random.nextInt(RACE_TYPES.length)])
+                            .field(DISTANCES[random.nextInt(DISTANCES.length)])
+                            .field(TRACK_CONDITIONS[random.nextInt(TRACK_CONDITIONS.length)])
+                            .field(completed)
+                            .last(random.nextLong());
+                }
+            }
+            log.info("Seeded {} races ({} upcoming)", totalRaces, upcomingRaceCount);
+
+            double[] averageTime = new double[completedRaceCount];
+            double[] fastestTime = new double[completedRaceCount];
+            double[] slowestTime = new double[completedRaceCount];
+            long[] prizePool = new long[completedRaceCount];
+            int[] winner = new int[completedRaceCount];
+
+            int[] field = new int[fieldSize];
+            double[] performance = new double[fieldSize];
+            try (CopyWriter out = copy("race_results (id, race_id, horse_id, position, earnings, race_time, "
+                    + "performance_score, created_at)")) {
+                for (int race = 0; race < completedRaceCount; race++) {
+                    pickField(field);
+                    for (int i = 0; i < fieldSize; i++) {
+                        performance[i] = 40 + random.nextDouble() * 60;
+                    }
+                    // Best performance first; the field is small, so a selection pass is enough
+                    for (int i = 0; i < fieldSize; i++) {
+                        int best = i;
+                        for (int j = i + 1; j < fieldSize; j++) {
+                            if (performance[j] > performance[best]) {
+                                best = j;
+                            }
+                        }
+                        swap(performance, field, i, best);
+                    }
+
+                    double totalTime = 0;
+                    for (int i = 0; i < fieldSize; i++) {
+                        double raceTime = Math.max(60.0, 120.0 - (performance[i] - 50.0) * 0.1);
+                        int earnings = (int) (basePrizes[race]
+                                * PRIZE_MULTIPLIERS[Math.min(i, PRIZE_MULTIPLIERS.length - 1)]);
+                        totalTime += raceTime;
+                        prizePool[race] += earnings;
+                        out.field(nextUuid())
+                                .field(raceIds[race])
+                                .field(horseIds[field[i]])
+                                .field(i + 1)
+                                .field(earnings)
+                                .field(raceTime)
+                                .field(performance[i])
+                                .last(scheduled[race]);
+                    }
+                    averageTime[race] = totalTime / fieldSize;
+                    fastestTime[race] = Math.max(60.0, 120.0 - (performance[0] - 50.0) * 0.1);
+                    slowestTime[race] = Math.max(60.0, 120.0 - (performance[fieldSize - 1] - 50.0) * 0.1);
+                    winner[race] = field[0];
+                }
+            }
+            log.info("Seeded {} race results", (long) completedRaceCount * fieldSize);
+
+            try (CopyWriter out = copy("race_summaries (race_id, participants, average_time, fastest_time, "
+                    + "slowest_time, total_prize_pool, winner_horse_id, winner_name, created_at)")) {
+                for (int race = 0; race < completedRaceCount; race++) {
+                    out.field(raceIds[race])
+                            .field(fieldSize)
+                            .field(averageTime[race])
+                            .field(fastestTime[race])
+                            .field(slowestTime[race])
+                            .field(prizePool[race])
+                            .field(horseIds[winner[race]])
+                            .field(horseName(winner[race]))
+                            .last(scheduled[race]);
+                }
+            }
+        }
+
+        // Logs the seeded results the same way the V11 backfill does
+        private void appendRaceEvents() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        INSERT INTO race_events (race_id, race_seed, race_type, distance, track_condition, base_prize,
+                                                 horse_id, horse_name, position, earnings, race_time,
+                                                 performance_score, recorded_at)
+                        SELECT rr.race_id, r.seed, r.race_type, r.distance, r.track_condition, r.base_prize,
+                               rr.horse_id, h.name, rr.position, rr.earnings, rr.race_time,
+                               rr.performance_score, rr.created_at
+                        FROM race_results rr
+                        JOIN races r ON r.id = rr.race_id
+                        JOIN horses h ON h.id = rr.horse_id
+                        WHERE NOT EXISTS (SELECT 1 FROM race_events e WHERE e.race_id = rr.race_id)
+                        ORDER BY rr.created_at, rr.race_id, rr.position
+                        """);
+            }
+            log.info("Appended seeded results to the race event log");
+        }
+
+        /**
+         * Builds each seeded horse's career from the events this run appended, the
+         * way the horse-careers projection would: 20 experience per race and 50 per
+         * win on the V11 level curve, 5 training points per level gained. Only
+         * seeded horses ran in seeded races, and they start at level 1.
+         */
+        private void deriveCareers() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                int updated = statement.executeUpdate("""
+                        UPDATE horses h SET
+                            races_run = a.races_run,
+                            races_won = a.races_won,
+                            total_earnings = a.earnings,
+                            level = horse_level(a.experience),
+                            experience = a.experience - horse_level_experience(horse_level(a.experience)),
+                            training_points = h.training_points + 5 * (horse_level(a.experience) - 1)
+                        FROM (
+                            SELECT horse_id,
+                                   COUNT(*) AS races_run,
+                                   COUNT(*) FILTER (WHERE position = 1) AS races_won,
+                                   SUM(earnings) AS earnings,
+                                   20 * COUNT(*) + 30 * COUNT(*) FILTER (WHERE position = 1) AS experience
+                            FROM race_events
+                            WHERE tx_id = pg_current_xact_id()
+                            GROUP BY horse_id
+                        ) a
+                        WHERE h.id = a.horse_id
+                        """);
+                log.info("Derived careers for {} horses from their seeded results", updated);
+            }
+        }
+
+        /*
+         * Nothing was pending before this run (see checkProjectionsCaughtUp), and the
+         * careers and summaries it wrote already include its own events, so both
+         * projections are now current up to this transaction's last event.
+         */
+        private void moveCheckpoints() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("""
+                        UPDATE projection_checkpoints
+                        SET tx_id = pg_current_xact_id()::TEXT::BIGINT,
+                            event_id = (SELECT COALESCE(MAX(id), 0) FROM race_events
+                                        WHERE tx_id = pg_current_xact_id()),
+                            updated_at = NOW()
+                        WHERE EXISTS (SELECT 1 FROM race_events WHERE tx_id = pg_current_xact_id())
+                        """);
+            }
+        }
+
+        // Same aggregation as the V8 backfill, over every summary in the table
+        private void rebuildRollups() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DELETE FROM race_stat_rollups");
+                statement.execute("""
+                        INSERT INTO race_stat_rollups (dimension, dimension_value, races, participants, total_time,
+                                                       fastest_time, slowest_time, total_prize_pool)
+                        SELECT dimension, dimension_value, COUNT(*), SUM(s.participants),
+                               SUM(s.average_time * s.participants), MIN(s.fastest_time), MAX(s.slowest_time),
+                               SUM(s.total_prize_pool)
+                        FROM race_summaries s
+                        JOIN races r ON r.id = s.race_id
+                        CROSS JOIN LATERAL (VALUES
+                            ('RACE_TYPE', r.race_type),
+                            ('DISTANCE', r.distance::text),
+                            ('TRACK_CONDITION', r.track_condition)
+                        ) AS d(dimension, dimension_value)
+                        GROUP BY dimension, dimension_value
+                        """);
+                statement.execute("ANALYZE users, horses, races, race_results, race_events, race_summaries, "
+                        + "race_stat_rollups");
+            }
+        }
+
+        // Distinct horses under the races-run cap, drawn uniformly
+        private void pickField(int[] field) {
+            if (uncapped < field.length) {
+                throw new IllegalStateException("Only " + uncapped + " horses are left under "
+                        + MAX_RACES_RUN + " races; seed more horses or fewer races");
+            }
+            for (int i = 0; i < field.length; i++) {
+                int candidate;
+                do {
+                    candidate = random.nextInt(horseCount);
+                } while (racesRun[candidate] >= MAX_RACES_RUN || contains(field, i, candidate));
+                field[i] = candidate;
+                if (++racesRun[candidate] == MAX_RACES_RUN) {
+                    uncapped--;
+                }
+            }
+        }
+
+        private UUID nextUuid() {
+            // Version 4 layout, so the ids look like the ones Hibernate generates
+            long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(most, least);
+        }
+
+        private int stat() {
+            return 30 + random.nextInt(71);
+        }
+
+        private OffsetDateTime pastTimestamp(int maxDaysAgo) {
+            return now.minusSeconds(1 + random.nextLong(Duration.ofDays(maxDaysAgo).toSeconds()));
+        }
+
+        private CopyWriter copy(String target) throws SQLException {
+            return new CopyWriter(copyManager.copyIn("COPY " + target + " FROM STDIN"));
+        }
+    }
+
+    private static String horseName(int index) {
+        int prefix = index % NAME_PREFIXES.length;
+        int suffix = (index / NAME_PREFIXES.length) % NAME_SUFFIXES.length;
+        int generation = index / (NAME_PREFIXES.length * NAME_SUFFIXES.length);
+        return NAME_PREFIXES[prefix] + " " + NAME_SUFFIXES[suffix] + (generation == 0 ? "" : " " + generation);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void swap(double[] performance, int[] field, int a, int b) {
+        double p = performance[a];
+        performance[a] = performance[b];
+        performance[b] = p;
+        int f = field[a];
+        field[a] = field[b];
+        field[b] = f;
+    }
+
+    /**
+     * Buffers rows in COPY text format (tab separated, {@code \N} for null) and
+     * flushes them to the server in 1 MB chunks. None of the generated values
+     * contain tabs, newlines or backslashes, so no escaping is needed.
+     */
+    private static final class CopyWriter implements AutoCloseable {
+
+        private static final int FLUSH_BYTES = 1 << 20;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_BYTES + 4096);
+
+        CopyWriter(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        CopyWriter field(Object value) {
+            append(value);
+            buffer.append('\t');
+            return this;
+        }
+
+        void last(Object value) throws SQLException {
+            append(value);
+            buffer.append('\n');
+            if (buffer.length() >= FLUSH_BYTES) {
+                flush();
+            }
+        }
+
+        private void append(Object value) {
+            buffer.append(value == null ? "\\N" : value.toString());
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+                copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.umamusume.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Open-loop HTTP load generator for a running backend. Requests are issued on a
+ * fixed schedule at the target rate regardless of how fast responses come back,
+ * and latency is measured from each request's scheduled start, so a stalled
+ * server shows up in the percentiles instead of silently lowering the rate.
+ *
+ * <pre>
+ * mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.umamusume.backend.LoadDriver \
+ *     -Dexec.args="--base-url=http://127.0.0.1:8080 --rps=200 --duration=60s"
+ * </pre>
+ *
+ * Needs existing horses and races to target, e.g. from {@link DatasetSeeder}.
+ * Targets are sampled uniformly from every horse and race (see {@link #sampleIds}),
+ * so the run touches cold rows as well as the oldest, most cached ones. Odds are
+ * only asked for races that have not run yet. Any response other than 2xx counts
+ * as an error, and the report breaks each operation down by status code.
+ */
+public final class LoadDriver {
+
+    private static final int PAGE_SIZE = 200;
+
+    private record Operation(String name, int weight, Function<Targets, HttpRequest.Builder> request) {}
+
+    private record Targets(String baseUrl, List<String> horseIds, List<String> raceIds,
+                           List<String> upcomingRaceIds) {
+        String horse() {
+            return horseIds.get(ThreadLocalRandom.current().nextInt(horseIds.size()));
+        }
+
+        String race() {
+            return raceIds.get(ThreadLocalRandom.current().nextInt(raceIds.size()));
+        }
+
+        String upcomingRace() {
+            return upcomingRaceIds.get(ThreadLocalRandom.current().nextInt(upcomingRaceIds.size()));
+        }
+
+        HttpRequest.Builder get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+        }
+
+        HttpRequest.Builder post(String path, String json) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json));
+        }
+    }
+
+    // Read-heavy, roughly what the frontend produces
+    private static final List<Operation> MIX = List.of(
+        new Operation("GET horse", 20, t -> t.get("/api/v1/horses/" + t.horse())),
+        new Operation("GET horse stats", 15, t -> t.get("/api/v1/game/horses/" + t.horse() + "/stats")),
+        new Operation("GET horses page", 5, t -> t.get("/api/v1/horses?limit=50")),
+        new Operation("GET race", 10, t -> t.get("/api/v1/races/" + t.race())),
+        new Operation("GET race statistics", 10, t -> t.get("/api/v1/game/races/" + t.race() + "/statistics")),
+        new Operation("GET leaderboard", 10, t -> t.get("/api/v1/leaderboards/earnings?limit=20")),
+        new Operation("GET upcoming races", 3, t -> t.get("/api/v1/races/upcoming")),
+        new Operation("GET race odds", 2, t -> t.get("/api/v1/game/races/" + t.upcomingRace() + "/odds?trials=10000")),
+        new Operation("POST train", 10, t -> t.post("/api/v1/game/horses/" + t.horse() + "/train",
+                "{\"statType\":\"speed\",\"points\":1}")),
+        new Operation("POST rest", 10, t -> t.post("/api/v1/game/horses/" + t.horse() + "/rest", "{}")),
+        new Operation("POST race", 5, t -> t.post("/api/v1/races",
+                "{\"name\":\"Load test race\",\"scheduledAt\":\"" + OffsetDateTime.now().plusDays(1) + "\"}"))
+    );
+
+    private LoadDriver() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://127.0.0.1:8080");
+        int rps = Integer.parseInt(options.getOrDefault("rps", "100"));
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "60s").toUpperCase());
+        int sampleSize = Integer.parseInt(options.getOrDefault("sample", "1000"));
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        Targets targets = new Targets(baseUrl,
+                sampleIds(client, baseUrl + "/api/v1/horses", sampleSize),
+                sampleIds(client, baseUrl + "/api/v1/races", sampleSize),
+                upcomingRaceIds(client, baseUrl + "/api/v1/races/upcoming"));
+        if (targets.horseIds().isEmpty() || targets.raceIds().isEmpty()) {
+            throw new IllegalStateException("Need at least one horse and one race; seed the database first");
+        }
+        List<Operation> mix = MIX;
+        if (targets.upcomingRaceIds().isEmpty()) {
+            System.out.println("No upcoming races, so race odds are left out of the mix");
+            mix = MIX.stream().filter(operation -> !operation.name().equals("GET race odds")).toList();
+        }
+
+        System.out.printf("Driving %s at %d req/s for %s%n", baseUrl, rps, duration);
+        Map<Operation, Recorder> recorders = new LinkedHashMap<>();
+        mix.forEach(operation -> recorders.put(operation, new Recorder()));
+        int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        int requests = (int) (duration.toNanos() / intervalNanos);
+        CountDownLatch completed = new CountDownLatch(requests);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = pick(mix, totalWeight);
+            Recorder recorder = recorders.get(operation);
+            client.sendAsync(operation.request().apply(targets).timeout(Duration.ofSeconds(30)).build(),
+                            HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        // Status 0 stands for a request that got no response at all
+                        recorder.record(System.nanoTime() - scheduled, error == null ? response.statusCode() : 0);
+                        completed.countDown();
+                    });
+        }
+        completed.await();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        report(recorders, elapsedSeconds);
+    }
+
+    private static Operation pick(List<Operation> mix, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : mix) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    /**
+     * Walks every page of the listing and keeps a uniform random sample of
+     * {@code size} ids (reservoir sampling), so targets are spread across the
+     * whole table rather than being its first, oldest page.
+     */
+    private static List<String> sampleIds(HttpClient client, String listUrl, int size)
+            throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> sample = new ArrayList<>(size);
+        long seen = 0;
+        String cursor = null;
+        do {
+            String url = listUrl + "?limit=" + PAGE_SIZE
+                    + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+            }
+            JsonNode page = objectMapper.readTree(response.body());
+            for (JsonNode item : page.path("items")) {
+                String id = item.path("id").asText();
+                if (sample.size() < size) {
+                    sample.add(id);
+                } else {
+                    long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+                    if (slot < size) {
+                        sample.set((int) slot, id);
+                    }
+                }
+                seen++;
+            }
+            cursor = page.path("nextCursor").isTextual() ? page.path("nextCursor").asText() : null;
+        } while (cursor != null);
+        System.out.printf("Sampled %d of %d ids from %s%n", sample.size(), seen, listUrl);
+        return sample;
+    }
+
+    // Not paged; the backend returns every race that has not run yet
+    private static List<String> upcomingRaceIds(HttpClient client, String url)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+        }
+        List<String> ids = new ArrayList<>();
+        for (JsonNode race : new ObjectMapper().readTree(response.body())) {
+            ids.add(race.path("id").asText());
+        }
+        System.out.printf("Found %d upcoming races at %s%n", ids.size(), url);
+        return ids;
+    }
+
+    private static void report(Map<Operation, Recorder> recorders, double elapsedSeconds) {
+        Recorder total = new Recorder();
+        System.out.printf("%n%-22s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        recorders.forEach((operation, recorder) -> {
+            print(operation.name(), recorder);
+            total.merge(recorder);
+        });
+        print("all", total);
+
+        System.out.printf("%n%-22s %s%n", "operation", "responses by status (0 = no response)");
+        recorders.forEach((operation, recorder) ->
+                System.out.printf("%-22s %s%n", operation.name(), recorder.statuses()));
+        System.out.printf("%nAchieved %.1f req/s over %.1f s%n", total.count() / elapsedSeconds, elapsedSeconds);
+    }
+
+    private static void print(String name, Recorder recorder) {
+        long[] sorted = recorder.sorted();
+        System.out.printf("%-22s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, sorted.length, recorder.errors(),
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 99.9),
+                sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    // Nearest-rank percentile, in milliseconds
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int split = arg.indexOf('=');
+            options.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    /** Latencies for one operation; every sample is kept so percentiles are exact. */
+    private static final class Recorder {
+
+        private long[] samples = new long[1024];
+        private int count;
+        private final AtomicLong errors = new AtomicLong();
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        synchronized void record(long latencyNanos, int status) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = latencyNanos;
+            statuses.merge(status, 1L, Long::sum);
+            if (status < 200 || status >= 300) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized void merge(Recorder other) {
+            long[] otherSamples = other.sorted();
+            for (long sample : otherSamples) {
+                if (count == samples.length) {
+                    samples = Arrays.copyOf(samples, Math.max(count * 2, count + otherSamples.length));
+                }
+                samples[count++] = sample;
+            }
+            other.statuses().forEach((status, responses) -> statuses.merge(status, responses, Long::sum));
+            errors.addAndGet(other.errors());
+        }
+
+        synchronized Map<Integer, Long> statuses() {
+            return new TreeMap<>(statuses);
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int count() {
+            return count;
+        }
+
+        long errors() {
+            return errors.get();
+        }
+    }
+}
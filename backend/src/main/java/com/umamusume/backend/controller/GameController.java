@@ -1,69 +1,125 @@
 package com.umamusume.backend.controller;
 
-import com.umamusume.backend.entity.Horse;
-import com.umamusume.backend.entity.Race;
+import com.umamusume.backend.dto.HorseStatsDto;
+import com.umamusume.backend.dto.RaceResultResponseDto;
+import com.umamusume.backend.dto.RaceStatRollupDto;
+import com.umamusume.backend.dto.SimulationJobDto;
+import com.umamusume.backend.entity.RaceStatRollup.Dimension;
 import com.umamusume.backend.entity.RaceResult;
-import com.umamusume.backend.repository.HorseRepository;
-import com.umamusume.backend.repository.RaceRepository;
+import com.umamusume.backend.service.GameLookupService;
+import com.umamusume.backend.service.OptimisticRetry;
+import com.umamusume.backend.service.RaceOddsService;
+import com.umamusume.backend.service.RaceSimulationJobService;
 import com.umamusume.backend.service.RaceSimulationService;
 import com.umamusume.backend.service.TrainingService;
+import com.umamusume.backend.service.TrainingService.TrainingOrder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/v1/game")
 public class GameController {
 
     private final RaceSimulationService raceSimulationService;
+    private final RaceSimulationJobService raceSimulationJobService;
+    private final RaceOddsService raceOddsService;
     private final TrainingService trainingService;
-    private final HorseRepository horseRepository;
-    private final RaceRepository raceRepository;
+    private final GameLookupService gameLookupService;
+    private final OptimisticRetry optimisticRetry;
 
     public GameController(RaceSimulationService raceSimulationService, 
+                         RaceSimulationJobService raceSimulationJobService,
+                         RaceOddsService raceOddsService,
                          TrainingService trainingService,
-                         HorseRepository horseRepository,
-                         RaceRepository raceRepository) {
+                         GameLookupService gameLookupService,
+                         OptimisticRetry optimisticRetry) {
         this.raceSimulationService = raceSimulationService;
+        this.raceSimulationJobService = raceSimulationJobService;
+        this.raceOddsService = raceOddsService;
         this.trainingService = trainingService;
-        this.horseRepository = horseRepository;
-        this.raceRepository = raceRepository;
+        this.gameLookupService = gameLookupService;
+        this.optimisticRetry = optimisticRetry;
     }
 
     @PostMapping("/races/{raceId}/simulate")
-    public ResponseEntity<List<RaceResult>> simulateRace(@PathVariable UUID raceId) {
-        Race race = raceRepository.findById(raceId)
-                .orElseThrow(() -> new IllegalArgumentException("Race not found"));
+    public ResponseEntity<?> simulateRace(@PathVariable UUID raceId,
+                                          @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            if (gameLookupService.findRace(raceId).isEmpty()) {
+                throw new IllegalArgumentException("Race not found");
+            }
+            try {
+                return ResponseEntity.accepted().body(raceSimulationJobService.submit(raceId));
+            } catch (RejectedExecutionException e) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(Map.of("message", "Simulation queue is full, try again later"));
+            }
+        }
+
+        List<RaceResult> results = optimisticRetry.run(() -> raceSimulationService.runRace(raceId));
+        // Careers are updated later by the horse-careers projection, so no horse state is returned here
+        return ResponseEntity.ok(results.stream().map(RaceResultResponseDto::fromEntity).toList());
+    }
 
-        List<Horse> participants = raceSimulationService.getRecommendedHorses(race, race.getMaxParticipants());
-        List<RaceResult> results = raceSimulationService.simulateRace(race, participants);
-        
-        // Mark race as completed
-        race.setIsCompleted(true);
-        raceRepository.save(race);
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<SimulationJobDto> getSimulationJob(@PathVariable UUID jobId) {
+        return raceSimulationJobService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-        return ResponseEntity.ok(results);
+    @GetMapping("/races/{raceId}/odds")
+    public ResponseEntity<?> getRaceOdds(@PathVariable UUID raceId,
+                                         @RequestParam(defaultValue = "100000") int trials) {
+        try {
+            return ResponseEntity.ok(raceOddsService.calculateOdds(raceId, trials));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
     }
 
     @PostMapping("/horses/{horseId}/train")
     public ResponseEntity<Map<String, Object>> trainHorse(
             @PathVariable UUID horseId,
             @RequestBody TrainHorseRequest request) {
-        Map<String, Object> result = trainingService.trainHorse(horseId, request.statType(), request.points());
+        Map<String, Object> result = optimisticRetry.run(
+                () -> trainingService.trainHorse(horseId, request.statType(), request.points()));
         return ResponseEntity.ok(result);
     }
 
     @PostMapping("/horses/{horseId}/rest")
     public ResponseEntity<Map<String, Object>> restHorse(@PathVariable UUID horseId) {
-        Map<String, Object> result = trainingService.restHorse(horseId);
+        Map<String, Object> result = optimisticRetry.run(() -> trainingService.restHorse(horseId));
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/horses/train")
+    public ResponseEntity<Map<String, Object>> trainHorses(@RequestBody BulkTrainRequest request) {
+        List<Map<String, Object>> results = optimisticRetry.run(() -> trainingService.trainHorses(request.items()));
+        return ResponseEntity.ok(bulkResponse(results));
+    }
+
+    @PostMapping("/horses/rest")
+    public ResponseEntity<Map<String, Object>> restHorses(@RequestBody BulkRestRequest request) {
+        List<Map<String, Object>> results = optimisticRetry.run(() -> trainingService.restHorses(request.horseIds()));
+        return ResponseEntity.ok(bulkResponse(results));
+    }
+
+    private static Map<String, Object> bulkResponse(List<Map<String, Object>> results) {
+        long succeeded = results.stream().filter(result -> Boolean.TRUE.equals(result.get("success"))).count();
+        return Map.of(
+            "succeeded", succeeded,
+            "failed", results.size() - succeeded,
+            "results", results
+        );
+    }
+
     @GetMapping("/horses/{horseId}/training-recommendations")
     public ResponseEntity<Map<String, Object>> getTrainingRecommendations(@PathVariable UUID horseId) {
         Map<String, Object> result = trainingService.getTrainingRecommendations(horseId);
@@ -83,39 +139,36 @@ public class GameController {
 
     @GetMapping("/races/{raceId}/statistics")
     public ResponseEntity<Map<String, Object>> getRaceStatistics(@PathVariable UUID raceId) {
-        Race race = raceRepository.findById(raceId)
-                .orElseThrow(() -> new IllegalArgumentException("Race not found"));
+        if (gameLookupService.findRace(raceId).isEmpty()) {
+            throw new IllegalArgumentException("Race not found");
+        }
         
-        Map<String, Object> stats = raceSimulationService.getRaceStatistics(race);
+        Map<String, Object> stats = raceSimulationService.getRaceStatistics(raceId);
         return ResponseEntity.ok(stats);
     }
 
-    @GetMapping("/horses/{horseId}/stats")
-    public ResponseEntity<Map<String, Object>> getHorseStats(@PathVariable UUID horseId) {
-        Horse horse = horseRepository.findById(horseId)
-                .orElseThrow(() -> new IllegalArgumentException("Horse not found"));
+    @GetMapping("/statistics/{dimension}")
+    public ResponseEntity<List<RaceStatRollupDto>> getRaceStatistics(@PathVariable String dimension) {
+        return ResponseEntity.ok(raceSimulationService.getRaceStatistics(Dimension.fromSlug(dimension)));
+    }
 
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("id", horse.getId());
-        stats.put("name", horse.getName());
-        stats.put("level", horse.getLevel());
-        stats.put("experience", horse.getExperience());
-        stats.put("trainingPoints", horse.getTrainingPoints());
-        stats.put("speed", horse.getSpeed());
-        stats.put("stamina", horse.getStamina());
-        stats.put("power", horse.getPower());
-        stats.put("guts", horse.getGuts());
-        stats.put("intelligence", horse.getIntelligence());
-        stats.put("totalStats", horse.getTotalStats());
-        stats.put("racePerformance", horse.getRacePerformance());
-        stats.put("racesWon", horse.getRacesWon());
-        stats.put("racesRun", horse.getRacesRun());
-        stats.put("totalEarnings", horse.getTotalEarnings());
-        stats.put("winRate", horse.getRacesRun() > 0 ? (double) horse.getRacesWon() / horse.getRacesRun() : 0.0);
+    @GetMapping("/statistics/{dimension}/{value}")
+    public ResponseEntity<RaceStatRollupDto> getRaceStatistics(@PathVariable String dimension,
+                                                               @PathVariable String value) {
+        return raceSimulationService.getRaceStatistics(Dimension.fromSlug(dimension), value)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 
+    @GetMapping("/horses/{horseId}/stats")
+    public ResponseEntity<HorseStatsDto> getHorseStats(@PathVariable UUID horseId) {
+        HorseStatsDto stats = gameLookupService.findHorseStats(horseId)
+                .orElseThrow(() -> new IllegalArgumentException("Horse not found"));
         return ResponseEntity.ok(stats);
     }
 
     public record TrainHorseRequest(String statType, Integer points) {}
     public record BreedHorsesRequest(UUID sireId, UUID damId, String foalName, UUID ownerId) {}
+    public record BulkTrainRequest(List<TrainingOrder> items) {}
+    public record BulkRestRequest(List<UUID> horseIds) {}
 }
@@ -1,14 +1,26 @@
 package com.umamusume.backend.controller;
 
+import com.umamusume.backend.dto.CursorPage;
 import com.umamusume.backend.dto.HorseResponseDto;
+import com.umamusume.backend.dto.LineageNodeDto;
+import com.umamusume.backend.dto.PageCursor;
+import com.umamusume.backend.dto.PedigreeDto;
 import com.umamusume.backend.entity.Horse;
 import com.umamusume.backend.entity.User;
 import com.umamusume.backend.repository.HorseRepository;
 import com.umamusume.backend.repository.UserRepository;
+import com.umamusume.backend.service.GameCacheInvalidator;
+import com.umamusume.backend.service.LeaderboardService;
+import com.umamusume.backend.service.PedigreeService;
+import com.umamusume.backend.service.RaceResultExportService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,24 +32,48 @@ public class HorseController {
 
     private final HorseRepository horseRepository;
     private final UserRepository userRepository;
+    private final RaceResultExportService raceResultExportService;
+    private final PageSizePolicy pageSizePolicy;
+    private final GameCacheInvalidator cacheInvalidator;
+    private final LeaderboardService leaderboardService;
+    private final PedigreeService pedigreeService;
 
-    public HorseController(HorseRepository horseRepository, UserRepository userRepository) {
+    public HorseController(HorseRepository horseRepository,
+                           UserRepository userRepository,
+                           RaceResultExportService raceResultExportService,
+                           PageSizePolicy pageSizePolicy,
+                           GameCacheInvalidator cacheInvalidator,
+                           LeaderboardService leaderboardService,
+                           PedigreeService pedigreeService) {
         this.horseRepository = horseRepository;
         this.userRepository = userRepository;
+        this.raceResultExportService = raceResultExportService;
+        this.pageSizePolicy = pageSizePolicy;
+        this.cacheInvalidator = cacheInvalidator;
+        this.leaderboardService = leaderboardService;
+        this.pedigreeService = pedigreeService;
     }
 
     @GetMapping
     @Transactional(readOnly = true)
-    public List<HorseResponseDto> getAllHorses() {
-        return horseRepository.findAll().stream()
-                .map(HorseResponseDto::fromEntity)
-                .toList();
+    public CursorPage<HorseResponseDto> getAllHorses(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        PageRequest fetch = PageRequest.ofSize(pageSize + 1);
+        List<HorseResponseDto> rows;
+        if (cursor == null) {
+            rows = horseRepository.findPage(fetch);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = horseRepository.findPageAfter(after.createdAt(), after.id(), fetch);
+        }
+        return CursorPage.of(rows, pageSize, row -> new PageCursor(row.createdAt(), row.id()));
     }
 
     @GetMapping("/{id}")
     @Transactional(readOnly = true)
     public ResponseEntity<HorseResponseDto> getHorseById(@PathVariable UUID id) {
-        Optional<Horse> horse = horseRepository.findById(id);
+        Optional<Horse> horse = horseRepository.findWithOwnerById(id);
         return horse.map(h -> ResponseEntity.ok(HorseResponseDto.fromEntity(h)))
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -45,9 +81,37 @@ public class HorseController {
     @GetMapping("/owner/{ownerId}")
     @Transactional(readOnly = true)
     public List<HorseResponseDto> getHorsesByOwner(@PathVariable UUID ownerId) {
-        return horseRepository.findByOwnerId(ownerId).stream()
-                .map(HorseResponseDto::fromEntity)
-                .toList();
+        return horseRepository.findResponsesByOwnerId(ownerId);
+    }
+
+    @GetMapping("/{id}/pedigree")
+    public ResponseEntity<PedigreeDto> getPedigree(@PathVariable UUID id,
+                                                   @RequestParam(defaultValue = "5") int depth) {
+        return pedigreeService.getPedigree(id, depth)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<List<LineageNodeDto>> getDescendants(@PathVariable UUID id,
+                                                               @RequestParam(defaultValue = "3") int depth) {
+        if (!horseRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(pedigreeService.getDescendants(id, depth));
+    }
+
+    @GetMapping(value = "/{id}/results", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> getHorseResults(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.APPLICATION_JSON_VALUE) String accept) {
+        if (!horseRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        boolean ndjson = accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(raceResultExportService.horseResults(id, ndjson));
     }
 
     @PostMapping
@@ -60,6 +124,8 @@ public class HorseController {
         
         Horse horse = new Horse(request.name(), owner.get());
         Horse savedHorse = horseRepository.save(horse);
+        cacheInvalidator.evictHorseStats(savedHorse.getId());
+        leaderboardService.track(savedHorse);
         return ResponseEntity.status(HttpStatus.CREATED).body(HorseResponseDto.fromEntity(savedHorse));
     }
 
@@ -80,6 +146,8 @@ public class HorseController {
         horse.setName(request.name());
         horse.setOwner(owner.get());
         Horse updatedHorse = horseRepository.save(horse);
+        cacheInvalidator.evictHorseStats(id);
+        leaderboardService.track(updatedHorse);
         return ResponseEntity.ok(HorseResponseDto.fromEntity(updatedHorse));
     }
 
@@ -89,6 +157,9 @@ public class HorseController {
             return ResponseEntity.notFound().build();
         }
         horseRepository.deleteById(id);
+        cacheInvalidator.evictHorseStats(id);
+        cacheInvalidator.evictLineage(id);
+        leaderboardService.untrack(id);
         return ResponseEntity.noContent().build();
     }
 
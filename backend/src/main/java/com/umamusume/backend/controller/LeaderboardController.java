@@ -0,0 +1,36 @@
+package com.umamusume.backend.controller;
+
+import com.umamusume.backend.dto.LeaderboardEntryDto;
+import com.umamusume.backend.service.LeaderboardService;
+import com.umamusume.backend.service.LeaderboardService.Board;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/leaderboards")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final PageSizePolicy pageSizePolicy;
+
+    public LeaderboardController(LeaderboardService leaderboardService, PageSizePolicy pageSizePolicy) {
+        this.leaderboardService = leaderboardService;
+        this.pageSizePolicy = pageSizePolicy;
+    }
+
+    @GetMapping("/{board}")
+    public List<LeaderboardEntryDto> getLeaderboard(@PathVariable String board,
+                                                    @RequestParam(required = false) Integer limit) {
+        return leaderboardService.top(Board.fromSlug(board), pageSizePolicy.resolve(limit));
+    }
+
+    @GetMapping("/{board}/horses/{horseId}")
+    public ResponseEntity<LeaderboardEntryDto> getHorseRank(@PathVariable String board, @PathVariable UUID horseId) {
+        return leaderboardService.rankOf(Board.fromSlug(board), horseId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
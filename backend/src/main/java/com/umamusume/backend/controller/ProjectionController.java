@@ -0,0 +1,37 @@
+package com.umamusume.backend.controller;
+
+import com.umamusume.backend.dto.ProjectionStatusDto;
+import com.umamusume.backend.service.ProjectionService;
+import com.umamusume.backend.service.ProjectionService.Projection;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/projections")
+public class ProjectionController {
+
+    private final ProjectionService projectionService;
+
+    public ProjectionController(ProjectionService projectionService) {
+        this.projectionService = projectionService;
+    }
+
+    @GetMapping
+    public List<ProjectionStatusDto> getProjections() {
+        return projectionService.getStatus();
+    }
+
+    // Returns 202 once the rebuild is queued; follow its progress under GET /projections
+    @PostMapping("/{projection}/rebuild")
+    public ResponseEntity<?> rebuild(@PathVariable String projection) {
+        try {
+            return ResponseEntity.accepted().body(projectionService.startRebuild(Projection.fromSlug(projection)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
+        }
+    }
+}
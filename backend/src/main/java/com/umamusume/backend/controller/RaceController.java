@@ -1,10 +1,22 @@
 package com.umamusume.backend.controller;
 
+import com.umamusume.backend.dto.CursorPage;
+import com.umamusume.backend.dto.PageCursor;
+import com.umamusume.backend.dto.RaceResponseDto;
 import com.umamusume.backend.entity.Race;
 import com.umamusume.backend.repository.RaceRepository;
+import com.umamusume.backend.service.GameCacheInvalidator;
+import com.umamusume.backend.service.GameLookupService;
+import com.umamusume.backend.service.GameRandom;
+import com.umamusume.backend.service.RaceResultExportService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -16,37 +28,83 @@ import java.util.UUID;
 public class RaceController {
 
     private final RaceRepository raceRepository;
+    private final RaceResultExportService raceResultExportService;
+    private final PageSizePolicy pageSizePolicy;
+    private final GameLookupService gameLookupService;
+    private final GameCacheInvalidator cacheInvalidator;
+    private final GameRandom gameRandom;
 
-    public RaceController(RaceRepository raceRepository) {
+    public RaceController(RaceRepository raceRepository,
+                          RaceResultExportService raceResultExportService,
+                          PageSizePolicy pageSizePolicy,
+                          GameLookupService gameLookupService,
+                          GameCacheInvalidator cacheInvalidator,
+                          GameRandom gameRandom) {
         this.raceRepository = raceRepository;
+        this.raceResultExportService = raceResultExportService;
+        this.pageSizePolicy = pageSizePolicy;
+        this.gameLookupService = gameLookupService;
+        this.cacheInvalidator = cacheInvalidator;
+        this.gameRandom = gameRandom;
     }
 
     @GetMapping
-    public List<Race> getAllRaces() {
-        return raceRepository.findAll();
+    public CursorPage<RaceResponseDto> getAllRaces(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        PageRequest fetch = PageRequest.ofSize(pageSize + 1);
+        List<RaceResponseDto> rows;
+        if (cursor == null) {
+            rows = raceRepository.findPage(fetch);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = raceRepository.findPageAfter(after.createdAt(), after.id(), fetch);
+        }
+        return CursorPage.of(rows, pageSize, row -> new PageCursor(row.createdAt(), row.id()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Race> getRaceById(@PathVariable UUID id) {
-        Optional<Race> race = raceRepository.findById(id);
+    public ResponseEntity<RaceResponseDto> getRaceById(@PathVariable UUID id) {
+        Optional<RaceResponseDto> race = gameLookupService.findRace(id);
         return race.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/upcoming")
-    public List<Race> getUpcomingRaces() {
-        return raceRepository.findByScheduledAtAfter(OffsetDateTime.now());
+    public List<RaceResponseDto> getUpcomingRaces() {
+        return raceRepository.findByIsCompletedFalseAndScheduledAtAfterOrderByScheduledAt(OffsetDateTime.now())
+                .stream()
+                .map(RaceResponseDto::fromEntity)
+                .toList();
+    }
+
+    @GetMapping(value = "/{id}/results", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> getRaceResults(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.APPLICATION_JSON_VALUE) String accept) {
+        if (!raceRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        boolean ndjson = accept.contains(MediaType.APPLICATION_NDJSON_VALUE);
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(raceResultExportService.raceResults(id, ndjson));
     }
 
     @PostMapping
-    public ResponseEntity<Race> createRace(@RequestBody CreateRaceRequest request) {
+    @Transactional
+    public ResponseEntity<RaceResponseDto> createRace(@RequestBody CreateRaceRequest request) {
         Race race = new Race(request.name(), request.scheduledAt());
+        // Drawn by the server and kept private until the race completes, so no one can pick or predict the outcome
+        race.setSeed(gameRandom.current().nextLong());
         Race savedRace = raceRepository.save(race);
-        return ResponseEntity.status(HttpStatus.CREATED).body(savedRace);
+        cacheInvalidator.evictRace(savedRace.getId()); // also keeps reads of the new race off a lagging replica
+        return ResponseEntity.status(HttpStatus.CREATED).body(RaceResponseDto.fromEntity(savedRace));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Race> updateRace(@PathVariable UUID id, @RequestBody UpdateRaceRequest request) {
+    @Transactional
+    public ResponseEntity<RaceResponseDto> updateRace(@PathVariable UUID id, @RequestBody UpdateRaceRequest request) {
         Optional<Race> existingRace = raceRepository.findById(id);
         if (existingRace.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -56,15 +114,18 @@ public class RaceController {
         race.setName(request.name());
         race.setScheduledAt(request.scheduledAt());
         Race updatedRace = raceRepository.save(race);
-        return ResponseEntity.ok(updatedRace);
+        cacheInvalidator.evictRace(id);
+        return ResponseEntity.ok(RaceResponseDto.fromEntity(updatedRace));
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteRace(@PathVariable UUID id) {
         if (!raceRepository.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
         raceRepository.deleteById(id);
+        cacheInvalidator.evictRace(id);
         return ResponseEntity.noContent().build();
     }
 
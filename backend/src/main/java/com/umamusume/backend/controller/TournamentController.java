@@ -0,0 +1,58 @@
+package com.umamusume.backend.controller;
+
+import com.umamusume.backend.dto.TournamentDto;
+import com.umamusume.backend.dto.TournamentHeatResultDto;
+import com.umamusume.backend.service.TournamentService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/v1/tournaments")
+public class TournamentController {
+
+    private final TournamentService tournamentService;
+
+    public TournamentController(TournamentService tournamentService) {
+        this.tournamentService = tournamentService;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createTournament(@RequestBody CreateTournamentRequest request) {
+        try {
+            TournamentDto tournament = tournamentService.create(
+                    request.name(),
+                    request.horseIds(),
+                    request.heatSize() != null ? request.heatSize() : 8,
+                    request.qualifiersPerHeat() != null ? request.qualifiersPerHeat() : 4
+            );
+            return ResponseEntity.accepted().body(tournament);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("message", "Tournament queue is full, try again later"));
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<TournamentDto> getTournament(@PathVariable UUID id) {
+        return tournamentService.getTournament(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}/rounds/{round}")
+    public ResponseEntity<List<TournamentHeatResultDto>> getRound(@PathVariable UUID id, @PathVariable int round) {
+        if (tournamentService.getTournament(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(tournamentService.getRound(id, round));
+    }
+
+    public record CreateTournamentRequest(String name, List<UUID> horseIds, Integer heatSize,
+                                          Integer qualifiersPerHeat) {}
+}
@@ -1,11 +1,18 @@
 package com.umamusume.backend.controller;
 
+import com.umamusume.backend.dto.CursorPage;
+import com.umamusume.backend.dto.PageCursor;
+import com.umamusume.backend.dto.UserResponseDto;
 import com.umamusume.backend.entity.User;
 import com.umamusume.backend.repository.UserRepository;
+import com.umamusume.backend.service.GameCacheInvalidator;
+import com.umamusume.backend.service.GameLookupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,37 +25,59 @@ import java.util.UUID;
 public class UserController {
 
     private final UserRepository userRepository;
+    private final PageSizePolicy pageSizePolicy;
+    private final GameLookupService gameLookupService;
+    private final GameCacheInvalidator cacheInvalidator;
 
-    public UserController(UserRepository userRepository) {
+    public UserController(UserRepository userRepository,
+                          PageSizePolicy pageSizePolicy,
+                          GameLookupService gameLookupService,
+                          GameCacheInvalidator cacheInvalidator) {
         this.userRepository = userRepository;
+        this.pageSizePolicy = pageSizePolicy;
+        this.gameLookupService = gameLookupService;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     @GetMapping
-    @Operation(summary = "Get all users", description = "Retrieve a list of all users")
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    @Operation(summary = "List users", description = "Retrieve users a page at a time; pass nextCursor back as cursor for the next page")
+    public CursorPage<UserResponseDto> getAllUsers(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(required = false) Integer limit) {
+        int pageSize = pageSizePolicy.resolve(limit);
+        PageRequest fetch = PageRequest.ofSize(pageSize + 1);
+        List<UserResponseDto> rows;
+        if (cursor == null) {
+            rows = userRepository.findPage(fetch);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            rows = userRepository.findPageAfter(after.createdAt(), after.id(), fetch);
+        }
+        return CursorPage.of(rows, pageSize, row -> new PageCursor(row.createdAt(), row.id()));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Retrieve a specific user by their ID")
-    public ResponseEntity<User> getUserById(@PathVariable UUID id) {
-        Optional<User> user = userRepository.findById(id);
+    public ResponseEntity<UserResponseDto> getUserById(@PathVariable UUID id) {
+        Optional<UserResponseDto> user = gameLookupService.findUser(id);
         return user.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping
     @Operation(summary = "Create a new user", description = "Create a new user with a unique username")
+    @Transactional
     public ResponseEntity<User> createUser(@RequestBody CreateUserRequest request) {
         if (userRepository.existsByUsername(request.username())) {
             return ResponseEntity.badRequest().build();
         }
         User user = new User(request.username());
         User savedUser = userRepository.save(user);
+        cacheInvalidator.evictUser(savedUser.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
     }
 
     @PutMapping("/{id}")
+    @Transactional
     public ResponseEntity<User> updateUser(@PathVariable UUID id, @RequestBody UpdateUserRequest request) {
         Optional<User> existingUser = userRepository.findById(id);
         if (existingUser.isEmpty()) {
@@ -58,15 +87,18 @@ public class UserController {
         User user = existingUser.get();
         user.setUsername(request.username());
         User updatedUser = userRepository.save(user);
+        cacheInvalidator.evictUser(id);
         return ResponseEntity.ok(updatedUser);
     }
 
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<Void> deleteUser(@PathVariable UUID id) {
         if (!userRepository.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
         userRepository.deleteById(id);
+        cacheInvalidator.evictUser(id);
         return ResponseEntity.noContent().build();
     }
 
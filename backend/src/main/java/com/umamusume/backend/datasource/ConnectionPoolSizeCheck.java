@@ -0,0 +1,81 @@
+package com.umamusume.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Warns at startup when a connection pool is smaller than the number of
+ * threads that can ask it for a connection at once. Those threads then queue
+ * in {@code getConnection()}, which is what turns a burst of races into p99
+ * spikes. The primary pool has to cover request threads, the MVC async threads
+ * that stream exports after their request thread is released, and every
+ * background worker; a replica pool only serves the reads of the first two.
+ */
+@Component
+public class ConnectionPoolSizeCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolSizeCheck.class);
+
+    private final List<HikariDataSource> pools;
+    private final int requestThreads;
+    private final int asyncThreads;
+    private final Map<String, Integer> workers = new LinkedHashMap<>();
+
+    public ConnectionPoolSizeCheck(List<HikariDataSource> pools,
+                                   @Value("${server.tomcat.threads.max:200}") int requestThreads,
+                                   @Value("${spring.task.execution.pool.core-size:8}") int asyncCoreThreads,
+                                   @Value("${spring.task.execution.pool.max-size:2147483647}") int asyncMaxThreads,
+                                   @Value("${spring.task.execution.pool.queue-capacity:2147483647}") int asyncQueueCapacity,
+                                   @Value("${game.simulation.workers:4}") int simulationWorkers,
+                                   @Value("${game.tournament.workers:1}") int tournamentWorkers,
+                                   @Value("${game.projections.rebuild-workers:4}") int rebuildWorkers,
+                                   @Value("${game.projections.enabled:true}") boolean projectionsEnabled,
+                                   @Value("${game.scheduler.enabled:true}") boolean schedulerEnabled,
+                                   @Value("${game.scheduler.parallelism:4}") int schedulerParallelism) {
+        this.pools = pools;
+        this.requestThreads = requestThreads;
+        // A thread pool grows past its core size only once its queue is full, never with the default unbounded queue
+        this.asyncThreads = asyncQueueCapacity == Integer.MAX_VALUE ? asyncCoreThreads : asyncMaxThreads;
+        workers.put("game.simulation.workers", simulationWorkers);
+        workers.put("game.tournament.workers", tournamentWorkers);
+        workers.put("game.projections.rebuild-workers", rebuildWorkers);
+        workers.put("projection rebuild coordinator", 1);
+        if (projectionsEnabled) {
+            workers.put("projection runner", 1);
+        }
+        if (schedulerEnabled) {
+            workers.put("game.scheduler.parallelism", schedulerParallelism);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check(ApplicationReadyEvent event) {
+        Map<String, Integer> demand = new LinkedHashMap<>();
+        if (event.getApplicationContext() instanceof WebServerApplicationContext) {
+            demand.put("server.tomcat.threads.max", requestThreads);
+            demand.put("spring.task.execution.pool", asyncThreads);
+        }
+        for (HikariDataSource pool : pools) {
+            Map<String, Integer> poolDemand = new LinkedHashMap<>(demand);
+            if (!pool.isReadOnly()) {
+                poolDemand.putAll(workers);
+            }
+            int needed = poolDemand.values().stream().mapToInt(Integer::intValue).sum();
+            if (pool.getMaximumPoolSize() < needed) {
+                log.warn("Connection pool {} has {} connections but up to {} threads may need one at once {}; "
+                                + "raise its maximum-pool-size or lower the concurrency",
+                        pool.getPoolName(), pool.getMaximumPoolSize(), needed, poolDemand);
+            }
+        }
+    }
+}
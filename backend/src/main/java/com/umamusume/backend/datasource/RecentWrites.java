@@ -0,0 +1,39 @@
+package com.umamusume.backend.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Ids of rows written within the last {@code max-lag}, i.e. rows a replica may
+ * still be behind on. Fed by every cache eviction, local or received over the
+ * invalidation bus, so writes made through any instance are covered.
+ */
+@Component
+@ConditionalOnProperty(name = "game.datasource.replica.enabled", havingValue = "true")
+public class RecentWrites {
+
+    private final Cache<UUID, Boolean> written;
+
+    public RecentWrites(@Value("${game.datasource.replica.max-lag:5s}") Duration maxLag,
+                        @Value("${game.datasource.replica.max-tracked-writes:100000}") long maxTracked) {
+        this.written = Caffeine.newBuilder()
+                .expireAfterWrite(maxLag)
+                .maximumSize(maxTracked)
+                .build();
+    }
+
+    public void markWritten(Collection<UUID> ids) {
+        ids.forEach(id -> written.put(id, Boolean.TRUE));
+    }
+
+    public boolean wasRecentlyWritten(UUID id) {
+        return written.getIfPresent(id) != null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.umamusume.backend.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Serves a request from the primary when any id in its path (a horse, race or
+ * user) was written recently, so a client reading back what it just changed
+ * never sees the replica's older copy.
+ * <p>
+ * The flag is per thread. A streamed response body runs on an MVC async
+ * thread after the request thread is released, and {@code afterCompletion}
+ * is not called on the request thread in that case, so the flag is also
+ * cleared once async handling starts. A body that needs it must capture it
+ * first, as {@code RaceResultExportService} does.
+ */
+public class ReplicaConsistencyInterceptor implements AsyncHandlerInterceptor {
+
+    private final RecentWrites recentWrites;
+
+    public ReplicaConsistencyInterceptor(RecentWrites recentWrites) {
+        this.recentWrites = recentWrites;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> pathVariables) {
+            for (Object value : pathVariables.values()) {
+                if (isRecentlyWritten(value)) {
+                    ReplicaRouting.forcePrimary();
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReplicaRouting.clear();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReplicaRouting.clear();
+    }
+
+    private boolean isRecentlyWritten(Object value) {
+        try {
+            return recentWrites.wasRecentlyWritten(UUID.fromString(String.valueOf(value)));
+        } catch (IllegalArgumentException e) {
+            return false; // not an id, e.g. a leaderboard or statistics slug
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.umamusume.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary and replica connection pools behind one routing {@link DataSource}:
+ * {@code @Transactional(readOnly = true)} work (including Spring Data's
+ * built-in finders) reads from the replica, everything else uses the primary.
+ * Replaces Boot's single auto-configured pool when
+ * {@code game.datasource.replica.enabled} is set. Flyway, the seeder and the
+ * cache invalidation listener never run read-only transactions, so they stay
+ * on the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "game.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration implements WebMvcConfigurer {
+
+    private final RecentWrites recentWrites;
+
+    public ReplicaDataSourceConfiguration(RecentWrites recentWrites) {
+        this.recentWrites = recentWrites;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("game.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${game.datasource.replica.url:}") String url,
+                                              @Value("${game.datasource.replica.username:}") String username,
+                                              @Value("${game.datasource.replica.password:}") String password) {
+        if (!StringUtils.hasText(url)) {
+            throw new IllegalStateException("game.datasource.replica.url is required when the replica is enabled");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(StringUtils.hasText(username) ? username : properties.determineUsername())
+                .password(StringUtils.hasText(password) ? password : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ReplicaConsistencyInterceptor(recentWrites));
+    }
+}
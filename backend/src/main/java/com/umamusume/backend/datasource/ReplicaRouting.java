@@ -0,0 +1,47 @@
+package com.umamusume.backend.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread override that keeps read-only transactions on the primary, for
+ * reads that must see a write the replica may not have replayed yet. Only
+ * consulted when the connection is first used, so it has to be set before the
+ * transaction runs its first statement.
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicaRouting() {}
+
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    public static void forcePrimary() {
+        PRIMARY_FORCED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_FORCED.remove();
+    }
+
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean alreadyForced = isPrimaryForced();
+        forcePrimary();
+        try {
+            return work.get();
+        } finally {
+            if (!alreadyForced) {
+                clear();
+            }
+        }
+    }
+
+    public static void onPrimary(Runnable work) {
+        onPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.umamusume.backend.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor
+) {
+    /**
+     * Builds a page from a query that fetched {@code limit + 1} rows; the extra
+     * row only signals that another page exists and is dropped.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new CursorPage<>(items, cursorOf.apply(items.get(limit - 1)).encode());
+    }
+}
@@ -0,0 +1,32 @@
+package com.umamusume.backend.dto;
+
+import com.umamusume.backend.entity.Horse;
+
+import java.util.UUID;
+
+public record HorseRankingDto(
+    UUID id,
+    String name,
+    Integer totalEarnings,
+    Integer racesWon,
+    Integer racesRun,
+    Double racePerformance,
+    Long version
+) {
+    public static HorseRankingDto fromEntity(Horse horse) {
+        return new HorseRankingDto(
+            horse.getId(),
+            horse.getName(),
+            horse.getTotalEarnings(),
+            horse.getRacesWon(),
+            horse.getRacesRun(),
+            horse.getRacePerformance(),
+            horse.getVersion()
+        );
+    }
+
+    // Horse.version only grows, so a lower one is a snapshot some later write has already replaced
+    public boolean isOlderThan(HorseRankingDto other) {
+        return version != null && other.version != null && version < other.version;
+    }
+}
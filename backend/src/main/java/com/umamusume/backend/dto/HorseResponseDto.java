@@ -1,8 +1,6 @@
 package com.umamusume.backend.dto;
 
 import com.umamusume.backend.entity.Horse;
-import com.umamusume.backend.entity.User;
-
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
@@ -12,6 +10,12 @@ public record HorseResponseDto(
     UserResponseDto owner,
     OffsetDateTime createdAt
 ) {
+    // Flat form used by JPQL constructor expressions that join the owner
+    public HorseResponseDto(UUID id, String name, UUID ownerId, String ownerUsername,
+                            OffsetDateTime ownerCreatedAt, OffsetDateTime createdAt) {
+        this(id, name, new UserResponseDto(ownerId, ownerUsername, ownerCreatedAt), createdAt);
+    }
+
     public static HorseResponseDto fromEntity(Horse horse) {
         return new HorseResponseDto(
             horse.getId(),
@@ -0,0 +1,45 @@
+package com.umamusume.backend.dto;
+
+import com.umamusume.backend.entity.Horse;
+
+import java.util.UUID;
+
+public record HorseStatsDto(
+    UUID id,
+    String name,
+    Integer level,
+    Integer experience,
+    Integer trainingPoints,
+    Integer speed,
+    Integer stamina,
+    Integer power,
+    Integer guts,
+    Integer intelligence,
+    Integer totalStats,
+    Double racePerformance,
+    Integer racesWon,
+    Integer racesRun,
+    Integer totalEarnings,
+    Double winRate
+) {
+    public static HorseStatsDto fromEntity(Horse horse) {
+        return new HorseStatsDto(
+            horse.getId(),
+            horse.getName(),
+            horse.getLevel(),
+            horse.getExperience(),
+            horse.getTrainingPoints(),
+            horse.getSpeed(),
+            horse.getStamina(),
+            horse.getPower(),
+            horse.getGuts(),
+            horse.getIntelligence(),
+            horse.getTotalStats(),
+            horse.getRacePerformance(),
+            horse.getRacesWon(),
+            horse.getRacesRun(),
+            horse.getTotalEarnings(),
+            horse.getRacesRun() > 0 ? (double) horse.getRacesWon() / horse.getRacesRun() : 0.0
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.umamusume.backend.dto;
+
+import java.util.UUID;
+
+public record LeaderboardEntryDto(
+    int rank,
+    UUID horseId,
+    String name,
+    double score,
+    Integer totalEarnings,
+    Integer racesWon,
+    Integer racesRun
+) {
+    public static LeaderboardEntryDto of(int rank, double score, HorseRankingDto horse) {
+        return new LeaderboardEntryDto(
+            rank,
+            horse.id(),
+            horse.name(),
+            score,
+            horse.totalEarnings(),
+            horse.racesWon(),
+            horse.racesRun()
+        );
+    }
+}
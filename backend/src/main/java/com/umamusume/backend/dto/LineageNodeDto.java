@@ -0,0 +1,16 @@
+package com.umamusume.backend.dto;
+
+import java.util.UUID;
+
+/**
+ * One horse in an ancestry or descendant walk. {@code generation} counts steps
+ * from the starting horse; where a horse is reachable along several paths the
+ * shortest one is kept.
+ */
+public record LineageNodeDto(
+    UUID id,
+    String name,
+    UUID sireId,
+    UUID damId,
+    int generation
+) {}
@@ -0,0 +1,11 @@
+package com.umamusume.backend.dto;
+
+import java.util.UUID;
+
+// sire/dam are null when unknown or beyond the requested depth
+public record PedigreeDto(
+    UUID id,
+    String name,
+    PedigreeDto sire,
+    PedigreeDto dam
+) {}
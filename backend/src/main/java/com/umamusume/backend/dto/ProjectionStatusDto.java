@@ -0,0 +1,36 @@
+package com.umamusume.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umamusume.backend.entity.ProjectionCheckpoint;
+
+import java.time.OffsetDateTime;
+
+public record ProjectionStatusDto(
+    String projection,
+    Long lastEventId,
+    long pendingEvents,
+    Boolean rebuilding,
+    OffsetDateTime updatedAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Rebuild lastRebuild
+) {
+    public enum RebuildState { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    // The last rebuild requested on the instance that answered; other instances only share the rebuilding flag
+    public record Rebuild(
+        RebuildState state,
+        int completedRanges,
+        int totalRanges,
+        @JsonInclude(JsonInclude.Include.NON_NULL) String error
+    ) {}
+
+    public static ProjectionStatusDto fromEntity(ProjectionCheckpoint checkpoint, long pendingEvents, Rebuild lastRebuild) {
+        return new ProjectionStatusDto(
+            checkpoint.getProjection(),
+            checkpoint.getEventId(),
+            pendingEvents,
+            checkpoint.getRebuilding(),
+            checkpoint.getUpdatedAt(),
+            lastRebuild
+        );
+    }
+}
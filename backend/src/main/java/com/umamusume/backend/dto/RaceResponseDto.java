@@ -0,0 +1,48 @@
+package com.umamusume.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umamusume.backend.entity.Race;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record RaceResponseDto(
+    UUID id,
+    String name,
+    OffsetDateTime scheduledAt,
+    Integer basePrize,
+    Integer minLevel,
+    Integer maxLevel,
+    Integer maxParticipants,
+    String raceType,
+    Integer distance,
+    String trackCondition,
+    Boolean isCompleted,
+    OffsetDateTime createdAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long seed
+) {
+    // The seed fixes the finishing order, so it is only published once the race has run
+    public RaceResponseDto {
+        if (!Boolean.TRUE.equals(isCompleted)) {
+            seed = null;
+        }
+    }
+
+    public static RaceResponseDto fromEntity(Race race) {
+        return new RaceResponseDto(
+            race.getId(),
+            race.getName(),
+            race.getScheduledAt(),
+            race.getBasePrize(),
+            race.getMinLevel(),
+            race.getMaxLevel(),
+            race.getMaxParticipants(),
+            race.getRaceType(),
+            race.getDistance(),
+            race.getTrackCondition(),
+            race.getIsCompleted(),
+            race.getCreatedAt(),
+            race.getSeed()
+        );
+    }
+}
@@ -0,0 +1,30 @@
+package com.umamusume.backend.dto;
+
+import com.umamusume.backend.entity.RaceResult;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record RaceResultResponseDto(
+    UUID raceId,
+    UUID horseId,
+    String horseName,
+    Integer position,
+    Integer earnings,
+    Double raceTime,
+    Double performanceScore,
+    OffsetDateTime createdAt
+) {
+    public static RaceResultResponseDto fromEntity(RaceResult result) {
+        return new RaceResultResponseDto(
+            result.getRace().getId(),
+            result.getHorse().getId(),
+            result.getHorse().getName(),
+            result.getPosition(),
+            result.getEarnings(),
+            result.getRaceTime(),
+            result.getPerformanceScore(),
+            result.getCreatedAt()
+        );
+    }
+}
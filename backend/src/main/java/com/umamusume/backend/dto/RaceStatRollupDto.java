@@ -0,0 +1,27 @@
+package com.umamusume.backend.dto;
+
+import com.umamusume.backend.entity.RaceStatRollup;
+
+public record RaceStatRollupDto(
+    String value,
+    long races,
+    long participants,
+    double averageTime,
+    double fastestTime,
+    double slowestTime,
+    long totalPrizePool,
+    double averagePrizePool
+) {
+    public static RaceStatRollupDto fromEntity(RaceStatRollup rollup) {
+        return new RaceStatRollupDto(
+            rollup.getId().dimensionValue(),
+            rollup.getRaces(),
+            rollup.getParticipants(),
+            rollup.getTotalTime() / rollup.getParticipants(),
+            rollup.getFastestTime(),
+            rollup.getSlowestTime(),
+            rollup.getTotalPrizePool(),
+            (double) rollup.getTotalPrizePool() / rollup.getRaces()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package com.umamusume.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umamusume.backend.entity.SimulationJob;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record SimulationJobDto(
+    UUID jobId,
+    UUID raceId,
+    SimulationJob.Status status,
+    OffsetDateTime submittedAt,
+    OffsetDateTime finishedAt,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    List<RaceResultResponseDto> results, // only once completed
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String error // only once failed
+) {
+    public static SimulationJobDto fromEntity(SimulationJob job, List<RaceResultResponseDto> results) {
+        return new SimulationJobDto(
+            job.getId(),
+            job.getRaceId(),
+            job.getStatus(),
+            job.getSubmittedAt(),
+            job.getFinishedAt(),
+            job.getStatus() == SimulationJob.Status.COMPLETED ? results : null,
+            job.getStatus() == SimulationJob.Status.FAILED ? job.getError() : null
+        );
+    }
+}
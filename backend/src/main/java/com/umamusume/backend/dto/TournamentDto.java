@@ -0,0 +1,44 @@
+package com.umamusume.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.umamusume.backend.entity.Tournament;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public record TournamentDto(
+    UUID id,
+    String name,
+    Tournament.Status status,
+    int entrants,
+    Integer heatSize,
+    Integer qualifiersPerHeat,
+    Integer roundsCompleted,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long seed,
+    UUID winnerHorseId,
+    OffsetDateTime createdAt,
+    OffsetDateTime completedAt
+) {
+    // Heats are drawn from the seed, so it stays private until the final has been run
+    public TournamentDto {
+        if (status != Tournament.Status.COMPLETED) {
+            seed = null;
+        }
+    }
+
+    public static TournamentDto fromEntity(Tournament tournament) {
+        return new TournamentDto(
+            tournament.getId(),
+            tournament.getName(),
+            tournament.getStatus(),
+            tournament.getEntrantIds().length,
+            tournament.getHeatSize(),
+            tournament.getQualifiersPerHeat(),
+            tournament.getRoundsCompleted(),
+            tournament.getSeed(),
+            tournament.getWinnerHorseId(),
+            tournament.getCreatedAt(),
+            tournament.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.umamusume.backend.dto;
+
+import java.util.UUID;
+
+public record TournamentHeatResultDto(
+    Integer heat,
+    Integer position,
+    UUID horseId,
+    String horseName,
+    Double performanceScore,
+    Boolean qualified
+) {}
@@ -5,6 +5,8 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 @Entity
 @Table(name = "horses")
@@ -69,6 +71,10 @@ public class Horse {
     @Column(nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public Horse() {}
 
@@ -78,17 +84,21 @@ public class Horse {
     }
 
     public Horse(String name, User owner, Horse sire, Horse dam) {
+        this(name, owner, sire, dam, ThreadLocalRandom.current());
+    }
+
+    public Horse(String name, User owner, Horse sire, Horse dam, RandomGenerator random) {
         this.name = name;
         this.owner = owner;
         this.sire = sire;
         this.dam = dam;
         // Inherit some stats from parents
         if (sire != null && dam != null) {
-            this.speed = (sire.speed + dam.speed) / 2 + (int)(Math.random() * 20 - 10);
-            this.stamina = (sire.stamina + dam.stamina) / 2 + (int)(Math.random() * 20 - 10);
-            this.power = (sire.power + dam.power) / 2 + (int)(Math.random() * 20 - 10);
-            this.guts = (sire.guts + dam.guts) / 2 + (int)(Math.random() * 20 - 10);
-            this.intelligence = (sire.intelligence + dam.intelligence) / 2 + (int)(Math.random() * 20 - 10);
+            this.speed = (sire.speed + dam.speed) / 2 + (int)(random.nextDouble() * 20 - 10);
+            this.stamina = (sire.stamina + dam.stamina) / 2 + (int)(random.nextDouble() * 20 - 10);
+            this.power = (sire.power + dam.power) / 2 + (int)(random.nextDouble() * 20 - 10);
+            this.guts = (sire.guts + dam.guts) / 2 + (int)(random.nextDouble() * 20 - 10);
+            this.intelligence = (sire.intelligence + dam.intelligence) / 2 + (int)(random.nextDouble() * 20 - 10);
             
             // Ensure stats stay within bounds
             this.speed = Math.max(1, Math.min(100, this.speed));
@@ -109,6 +119,7 @@ public class Horse {
         return (speed * 0.3 + stamina * 0.25 + power * 0.2 + guts * 0.15 + intelligence * 0.1);
     }
 
+    // Race results are credited by HorseRepository.applyRaceEvents, which uses the same curve in SQL
     public void addExperience(int exp) {
         this.experience += exp;
         // Level up logic
@@ -149,15 +160,6 @@ public class Horse {
         return true;
     }
 
-    public void recordRaceResult(boolean won, int earnings) {
-        this.racesRun++;
-        if (won) {
-            this.racesWon++;
-        }
-        this.totalEarnings += earnings;
-        this.addExperience(won ? 50 : 20); // More exp for winning
-    }
-
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -294,4 +296,8 @@ public class Horse {
     public void setCreatedAt(OffsetDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,65 @@
+package com.umamusume.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Position of the last race event a projection has applied. Positions order
+ * events by writing transaction, then id; see V11__add_race_event_log.sql.
+ */
+@Entity
+@Table(name = "projection_checkpoints")
+public class ProjectionCheckpoint {
+    @Id
+    @Column(length = 64)
+    private String projection;
+
+    @Column(nullable = false)
+    private Long txId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Boolean rebuilding = false; // projection is being rebuilt; incremental updates pause
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private OffsetDateTime updatedAt;
+
+    // Constructors
+    protected ProjectionCheckpoint() {}
+
+    // Game Logic Methods
+    public void moveTo(long txId, long eventId) {
+        this.txId = txId;
+        this.eventId = eventId;
+    }
+
+    // Getters and Setters
+    public String getProjection() {
+        return projection;
+    }
+
+    public Long getTxId() {
+        return txId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Boolean getRebuilding() {
+        return rebuilding;
+    }
+
+    public void setRebuilding(Boolean rebuilding) {
+        this.rebuilding = rebuilding;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -3,6 +3,7 @@ package com.umamusume.backend.entity;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
@@ -43,6 +44,15 @@ public class Race {
     @Column(nullable = false)
     private Boolean isCompleted = false;
 
+    @Column
+    private Long seed; // RNG seed used by the simulation; drawn on creation, published once completed
+
+    @Column(nullable = false)
+    private Integer failedAttempts = 0; // scheduled simulations that threw
+
+    @Column
+    private OffsetDateTime nextAttemptAt; // the scheduler skips the race until then
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private OffsetDateTime createdAt;
@@ -70,6 +80,13 @@ public class Race {
                !isCompleted;
     }
 
+    // Doubles the wait after each failed scheduled simulation, up to maxBackoff
+    public void deferAfterFailure(OffsetDateTime now, Duration backoff, Duration maxBackoff) {
+        failedAttempts++;
+        Duration delay = backoff.multipliedBy(1L << Math.min(failedAttempts - 1, 20));
+        nextAttemptAt = now.plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay);
+    }
+
     public boolean isUpcoming() {
         return scheduledAt.isAfter(OffsetDateTime.now()) && !isCompleted;
     }
@@ -167,6 +184,30 @@ public class Race {
         this.isCompleted = isCompleted;
     }
 
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+
+    public Integer getFailedAttempts() {
+        return failedAttempts;
+    }
+
+    public void setFailedAttempts(Integer failedAttempts) {
+        this.failedAttempts = failedAttempts;
+    }
+
+    public OffsetDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(OffsetDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
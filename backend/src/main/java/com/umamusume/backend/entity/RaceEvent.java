@@ -0,0 +1,191 @@
+package com.umamusume.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One horse finishing one race, appended to the race event log when the race is
+ * simulated and never changed afterwards. Holds everything needed to replay the
+ * result: the race's RNG seed and conditions, and the horse's stats going in.
+ * Horse careers and race summaries are projections of this log, see
+ * {@link com.umamusume.backend.service.ProjectionService}.
+ */
+@Entity
+@Immutable
+@Table(name = "race_events")
+public class RaceEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "race_events_id_seq")
+    @SequenceGenerator(name = "race_events_id_seq", sequenceName = "race_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    // Plain ids rather than associations: the log outlives deleted races and horses
+    @Column(nullable = false, updatable = false)
+    private UUID raceId;
+
+    @Column(updatable = false)
+    private Long raceSeed;
+
+    @Column(nullable = false, updatable = false, length = 32)
+    private String raceType;
+
+    @Column(nullable = false, updatable = false)
+    private Integer distance;
+
+    @Column(nullable = false, updatable = false, length = 32)
+    private String trackCondition;
+
+    @Column(nullable = false, updatable = false)
+    private Integer basePrize;
+
+    @Column(nullable = false, updatable = false)
+    private UUID horseId;
+
+    @Column(nullable = false, updatable = false, length = 128)
+    private String horseName;
+
+    @Column(updatable = false)
+    private Integer speed;
+
+    @Column(updatable = false)
+    private Integer stamina;
+
+    @Column(updatable = false)
+    private Integer power;
+
+    @Column(updatable = false)
+    private Integer guts;
+
+    @Column(updatable = false)
+    private Integer intelligence;
+
+    @Column(updatable = false)
+    private Integer level;
+
+    @Column(nullable = false, updatable = false)
+    private Integer position;
+
+    @Column(nullable = false, updatable = false)
+    private Integer earnings;
+
+    @Column(nullable = false, updatable = false)
+    private Double raceTime;
+
+    @Column(nullable = false, updatable = false)
+    private Double performanceScore;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime recordedAt;
+
+    // Constructors
+    protected RaceEvent() {}
+
+    public RaceEvent(RaceResult result) {
+        Race race = result.getRace();
+        Horse horse = result.getHorse();
+        this.raceId = race.getId();
+        this.raceSeed = race.getSeed();
+        this.raceType = race.getRaceType();
+        this.distance = race.getDistance();
+        this.trackCondition = race.getTrackCondition();
+        this.basePrize = race.getBasePrize();
+        this.horseId = horse.getId();
+        this.horseName = horse.getName();
+        this.speed = horse.getSpeed();
+        this.stamina = horse.getStamina();
+        this.power = horse.getPower();
+        this.guts = horse.getGuts();
+        this.intelligence = horse.getIntelligence();
+        this.level = horse.getLevel();
+        this.position = result.getPosition();
+        this.earnings = result.getEarnings();
+        this.raceTime = result.getRaceTime();
+        this.performanceScore = result.getPerformanceScore();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getRaceId() {
+        return raceId;
+    }
+
+    public Long getRaceSeed() {
+        return raceSeed;
+    }
+
+    public String getRaceType() {
+        return raceType;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+
+    public String getTrackCondition() {
+        return trackCondition;
+    }
+
+    public Integer getBasePrize() {
+        return basePrize;
+    }
+
+    public UUID getHorseId() {
+        return horseId;
+    }
+
+    public String getHorseName() {
+        return horseName;
+    }
+
+    public Integer getSpeed() {
+        return speed;
+    }
+
+    public Integer getStamina() {
+        return stamina;
+    }
+
+    public Integer getPower() {
+        return power;
+    }
+
+    public Integer getGuts() {
+        return guts;
+    }
+
+    public Integer getIntelligence() {
+        return intelligence;
+    }
+
+    public Integer getLevel() {
+        return level;
+    }
+
+    public Integer getPosition() {
+        return position;
+    }
+
+    public Integer getEarnings() {
+        return earnings;
+    }
+
+    public Double getRaceTime() {
+        return raceTime;
+    }
+
+    public Double getPerformanceScore() {
+        return performanceScore;
+    }
+
+    public OffsetDateTime getRecordedAt() {
+        return recordedAt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.umamusume.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+/**
+ * Running race totals for one value of a dimension (e.g. race type "STAKES"),
+ * maintained by the race-summaries projection, see
+ * {@link com.umamusume.backend.repository.RaceSummaryRepository#applyRaceEvents}.
+ */
+@Entity
+@Immutable
+@Table(name = "race_stat_rollups")
+public class RaceStatRollup {
+
+    public enum Dimension {
+        RACE_TYPE("race-type"),
+        DISTANCE("distance"),
+        TRACK_CONDITION("track-condition");
+
+        private final String slug;
+
+        Dimension(String slug) {
+            this.slug = slug;
+        }
+
+        public static Dimension fromSlug(String slug) {
+            for (Dimension dimension : values()) {
+                if (dimension.slug.equals(slug)) {
+                    return dimension;
+                }
+            }
+            throw new IllegalArgumentException("Unknown statistics dimension: " + slug);
+        }
+    }
+
+    @Embeddable
+    public record Key(
+        @Enumerated(EnumType.STRING)
+        @Column(length = 32)
+        Dimension dimension,
+
+        @Column(length = 64)
+        String dimensionValue
+    ) implements Serializable {}
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private Long races;
+
+    @Column(nullable = false)
+    private Long participants;
+
+    @Column(nullable = false)
+    private Double totalTime;
+
+    @Column(nullable = false)
+    private Double fastestTime;
+
+    @Column(nullable = false)
+    private Double slowestTime;
+
+    @Column(nullable = false)
+    private Long totalPrizePool;
+
+    protected RaceStatRollup() {}
+
+    // Getters
+    public Key getId() {
+        return id;
+    }
+
+    public Long getRaces() {
+        return races;
+    }
+
+    public Long getParticipants() {
+        return participants;
+    }
+
+    public Double getTotalTime() {
+        return totalTime;
+    }
+
+    public Double getFastestTime() {
+        return fastestTime;
+    }
+
+    public Double getSlowestTime() {
+        return slowestTime;
+    }
+
+    public Long getTotalPrizePool() {
+        return totalPrizePool;
+    }
+}
@@ -0,0 +1,82 @@
+package com.umamusume.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Aggregates for one simulated race, derived from the race event log by
+ * {@link com.umamusume.backend.repository.RaceSummaryRepository#applyRaceEvents}.
+ */
+@Entity
+@Immutable
+@Table(name = "race_summaries")
+public class RaceSummary {
+    @Id
+    private UUID raceId;
+
+    @Column(nullable = false)
+    private Integer participants;
+
+    @Column(nullable = false)
+    private Double averageTime;
+
+    @Column(nullable = false)
+    private Double fastestTime;
+
+    @Column(nullable = false)
+    private Double slowestTime;
+
+    @Column(nullable = false)
+    private Long totalPrizePool;
+
+    @Column
+    private UUID winnerHorseId; // null once the winner has been deleted
+
+    @Column(length = 128)
+    private String winnerName;
+
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    protected RaceSummary() {}
+
+    // Getters
+    public UUID getRaceId() {
+        return raceId;
+    }
+
+    public Integer getParticipants() {
+        return participants;
+    }
+
+    public Double getAverageTime() {
+        return averageTime;
+    }
+
+    public Double getFastestTime() {
+        return fastestTime;
+    }
+
+    public Double getSlowestTime() {
+        return slowestTime;
+    }
+
+    public Long getTotalPrizePool() {
+        return totalPrizePool;
+    }
+
+    public UUID getWinnerHorseId() {
+        return winnerHorseId;
+    }
+
+    public String getWinnerName() {
+        return winnerName;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
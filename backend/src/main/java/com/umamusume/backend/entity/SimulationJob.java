@@ -0,0 +1,89 @@
+package com.umamusume.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * An asynchronous race simulation. Results are not copied here; a completed
+ * job's results are the race's own race_results rows.
+ */
+@Entity
+@Table(name = "simulation_jobs")
+public class SimulationJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID raceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status = Status.QUEUED;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String error;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime submittedAt;
+
+    @Column
+    private OffsetDateTime finishedAt;
+
+    // Constructors
+    protected SimulationJob() {}
+
+    public SimulationJob(UUID raceId) {
+        this.raceId = raceId;
+    }
+
+    // Game Logic Methods
+    public void markRunning() {
+        this.status = Status.RUNNING;
+    }
+
+    public void markCompleted() {
+        this.status = Status.COMPLETED;
+        this.finishedAt = OffsetDateTime.now();
+    }
+
+    public void markFailed(String error) {
+        this.error = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.status = Status.FAILED;
+        this.finishedAt = OffsetDateTime.now();
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getRaceId() {
+        return raceId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public OffsetDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public OffsetDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,134 @@
+package com.umamusume.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tournaments")
+public class Tournament {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false, length = 128)
+    private String name;
+
+    @Column(nullable = false)
+    private Integer heatSize;
+
+    @Column(nullable = false)
+    private Integer qualifiersPerHeat;
+
+    @Column(nullable = false)
+    private UUID[] entrantIds; // Postgres uuid[]; only read when the tournament runs
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private Integer roundsCompleted = 0;
+
+    @Column(nullable = false)
+    private Long seed; // heats are drawn and run from this, so a tournament replays identically
+
+    @Column
+    private OffsetDateTime heartbeatAt; // set as the tournament starts and after every round
+
+    @Column
+    private UUID winnerHorseId;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column
+    private OffsetDateTime completedAt;
+
+    // Constructors
+    public Tournament() {}
+
+    public Tournament(String name, int heatSize, int qualifiersPerHeat, UUID[] entrantIds, long seed) {
+        this.name = name;
+        this.heatSize = heatSize;
+        this.qualifiersPerHeat = qualifiersPerHeat;
+        this.entrantIds = entrantIds;
+        this.seed = seed;
+    }
+
+    // Game Logic Methods
+    public void start() {
+        this.status = Status.RUNNING;
+        this.heartbeatAt = OffsetDateTime.now();
+    }
+
+    public void completeRound(int round) {
+        this.roundsCompleted = round;
+        this.heartbeatAt = OffsetDateTime.now();
+    }
+
+    public void complete(UUID winnerHorseId) {
+        this.winnerHorseId = winnerHorseId;
+        this.status = Status.COMPLETED;
+        this.completedAt = OffsetDateTime.now();
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Integer getHeatSize() {
+        return heatSize;
+    }
+
+    public Integer getQualifiersPerHeat() {
+        return qualifiersPerHeat;
+    }
+
+    public UUID[] getEntrantIds() {
+        return entrantIds;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Integer getRoundsCompleted() {
+        return roundsCompleted;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public UUID getWinnerHorseId() {
+        return winnerHorseId;
+    }
+
+    public OffsetDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
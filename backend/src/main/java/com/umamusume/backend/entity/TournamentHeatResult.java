@@ -0,0 +1,93 @@
+package com.umamusume.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "tournament_heat_results")
+public class TournamentHeatResult {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tournament_id", nullable = false)
+    private Tournament tournament;
+
+    @Column(nullable = false)
+    private Integer round;
+
+    @Column(nullable = false)
+    private Integer heat;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "horse_id", nullable = false)
+    private Horse horse;
+
+    @Column(nullable = false)
+    private Integer position;
+
+    @Column(nullable = false)
+    private Double performanceScore;
+
+    @Column(nullable = false)
+    private Boolean qualified;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    // Constructors
+    public TournamentHeatResult() {}
+
+    public TournamentHeatResult(Tournament tournament, int round, int heat, Horse horse, int position,
+                                double performanceScore, boolean qualified) {
+        this.tournament = tournament;
+        this.round = round;
+        this.heat = heat;
+        this.horse = horse;
+        this.position = position;
+        this.performanceScore = performanceScore;
+        this.qualified = qualified;
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public Tournament getTournament() {
+        return tournament;
+    }
+
+    public Integer getRound() {
+        return round;
+    }
+
+    public Integer getHeat() {
+        return heat;
+    }
+
+    public Horse getHorse() {
+        return horse;
+    }
+
+    public Integer getPosition() {
+        return position;
+    }
+
+    public Double getPerformanceScore() {
+        return performanceScore;
+    }
+
+    public Boolean getQualified() {
+        return qualified;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
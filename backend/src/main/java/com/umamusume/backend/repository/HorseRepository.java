@@ -1,13 +1,219 @@
 package com.umamusume.backend.repository;
 
+import com.umamusume.backend.dto.HorseRankingDto;
+import com.umamusume.backend.dto.HorseResponseDto;
 import com.umamusume.backend.entity.Horse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface HorseRepository extends JpaRepository<Horse, UUID> {
     List<Horse> findByOwnerId(UUID ownerId);
+
+    // Owner fetched in the same statement so DTO mapping never triggers a users SELECT
+    @EntityGraph(attributePaths = "owner")
+    Optional<Horse> findWithOwnerById(UUID id);
+
+    @Query("""
+            SELECT new com.umamusume.backend.dto.HorseResponseDto(h.id, h.name, o.id, o.username, o.createdAt, h.createdAt)
+            FROM Horse h JOIN h.owner o
+            WHERE o.id = :ownerId
+            ORDER BY h.createdAt, h.id
+            """)
+    List<HorseResponseDto> findResponsesByOwnerId(@Param("ownerId") UUID ownerId);
+
+    // Keyset listing on (createdAt, id); fetch limit + 1 via Pageable to detect a next page
+    @Query("""
+            SELECT new com.umamusume.backend.dto.HorseResponseDto(h.id, h.name, o.id, o.username, o.createdAt, h.createdAt)
+            FROM Horse h JOIN h.owner o
+            ORDER BY h.createdAt, h.id
+            """)
+    List<HorseResponseDto> findPage(Pageable pageable);
+
+    @Query("""
+            SELECT new com.umamusume.backend.dto.HorseResponseDto(h.id, h.name, o.id, o.username, o.createdAt, h.createdAt)
+            FROM Horse h JOIN h.owner o
+            WHERE (h.createdAt, h.id) > (:createdAt, :id)
+            ORDER BY h.createdAt, h.id
+            """)
+    List<HorseResponseDto> findPageAfter(@Param("createdAt") OffsetDateTime createdAt,
+                                         @Param("id") UUID id,
+                                         Pageable pageable);
+
+    // Leaderboard inputs; racePerformance mirrors Horse.getRacePerformance()
+    @Query("""
+            SELECT new com.umamusume.backend.dto.HorseRankingDto(
+                h.id, h.name, h.totalEarnings, h.racesWon, h.racesRun,
+                h.speed * 0.3 + h.stamina * 0.25 + h.power * 0.2 + h.guts * 0.15 + h.intelligence * 0.1,
+                h.version)
+            FROM Horse h
+            """)
+    Stream<HorseRankingDto> streamRankings();
+
+    @Query("""
+            SELECT new com.umamusume.backend.dto.HorseRankingDto(
+                h.id, h.name, h.totalEarnings, h.racesWon, h.racesRun,
+                h.speed * 0.3 + h.stamina * 0.25 + h.power * 0.2 + h.guts * 0.15 + h.intelligence * 0.1,
+                h.version)
+            FROM Horse h
+            WHERE h.id IN :ids
+            """)
+    List<HorseRankingDto> findRankingsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    interface LineageRow {
+        UUID getId();
+        String getName();
+        UUID getSireId();
+        UUID getDamId();
+        Integer getGeneration();
+    }
+
+    // The horse itself (generation 0) and its ancestors up to maxGeneration, in one round trip
+    @Query(value = """
+            WITH RECURSIVE lineage (id, name, sire_id, dam_id, generation) AS (
+                SELECT id, name, sire_id, dam_id, 0 FROM horses WHERE id = :horseId
+                UNION
+                SELECT p.id, p.name, p.sire_id, p.dam_id, l.generation + 1
+                FROM lineage l
+                JOIN horses p ON p.id = l.sire_id OR p.id = l.dam_id
+                WHERE l.generation < :maxGeneration
+            )
+            SELECT id AS "id", name AS "name", sire_id AS "sireId", dam_id AS "damId",
+                   MIN(generation) AS "generation"
+            FROM lineage
+            GROUP BY id, name, sire_id, dam_id
+            ORDER BY 5
+            """, nativeQuery = true)
+    List<LineageRow> findAncestry(@Param("horseId") UUID horseId, @Param("maxGeneration") int maxGeneration);
+
+    // Offspring (generation 1) and their offspring, via idx_horses_sire_id / idx_horses_dam_id
+    @Query(value = """
+            WITH RECURSIVE descendants (id, name, sire_id, dam_id, generation) AS (
+                SELECT id, name, sire_id, dam_id, 1 FROM horses WHERE sire_id = :horseId OR dam_id = :horseId
+                UNION
+                SELECT c.id, c.name, c.sire_id, c.dam_id, d.generation + 1
+                FROM descendants d
+                JOIN horses c ON c.sire_id = d.id OR c.dam_id = d.id
+                WHERE d.generation < :maxGeneration
+            )
+            SELECT id AS "id", name AS "name", sire_id AS "sireId", dam_id AS "damId",
+                   MIN(generation) AS "generation"
+            FROM descendants
+            GROUP BY id, name, sire_id, dam_id
+            ORDER BY 5, 2
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<LineageRow> findDescendants(@Param("horseId") UUID horseId,
+                                     @Param("maxGeneration") int maxGeneration,
+                                     @Param("limit") int limit);
+
+    /**
+     * Counts one start for each runner, in the race's own transaction, so the
+     * races-run cap in {@link #findRaceCandidates} holds without waiting for the
+     * horse-careers projection. Bumps version like {@link #applyRaceEvents}.
+     * Re-checks the cap under the row lock and returns how many horses were
+     * counted; fewer than requested means a concurrent race took the last start.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE horses SET races_run = races_run + 1, version = version + 1
+            WHERE id IN (:ids) AND races_run < 50
+            """, nativeQuery = true)
+    int countRaceStarts(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Horse-careers projection: adds the race events in positions (from, to] to
+     * each horse's record; races_run is already counted by {@link #countRaceStarts}.
+     * Level and experience follow Horse.addExperience (20 per race, 50 per win)
+     * via the V11 level functions. Bumps version so a concurrent entity update
+     * of the same horse fails and retries instead of overwriting.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE horses h SET
+                races_won = h.races_won + a.races_won,
+                total_earnings = h.total_earnings + a.earnings,
+                level = horse_level(horse_level_experience(h.level) + h.experience + a.experience),
+                experience = horse_level_experience(h.level) + h.experience + a.experience
+                    - horse_level_experience(horse_level(horse_level_experience(h.level) + h.experience + a.experience)),
+                training_points = h.training_points
+                    + 5 * (horse_level(horse_level_experience(h.level) + h.experience + a.experience) - h.level),
+                version = h.version + 1
+            FROM (
+                SELECT horse_id,
+                       COUNT(*) FILTER (WHERE position = 1) AS races_won,
+                       SUM(earnings) AS earnings,
+                       20 * COUNT(*) + 30 * COUNT(*) FILTER (WHERE position = 1) AS experience
+                FROM race_events
+                WHERE (tx_id, id) > (CAST(CAST(:fromTx AS TEXT) AS XID8), :fromId)
+                  AND (tx_id, id) <= (CAST(CAST(:toTx AS TEXT) AS XID8), :toId)
+                GROUP BY horse_id
+            ) a
+            WHERE h.id = a.horse_id
+            """, nativeQuery = true)
+    int applyRaceEvents(@Param("fromTx") long fromTx, @Param("fromId") long fromId,
+                        @Param("toTx") long toTx, @Param("toId") long toId);
+
+    /**
+     * Horse-careers rebuild for the horses with ids in [lo, hi]: recomputes their
+     * records from every event up to position {@code to}. Training points already
+     * spent are kept; only the points granted by level-ups are recounted.
+     * races_run is left alone: it is written with each race's events, so it
+     * never lags the log, and a recount here could miss a race committing
+     * while the rebuild runs.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE horses h SET
+                races_won = a.races_won,
+                total_earnings = a.earnings,
+                level = horse_level(a.experience),
+                experience = a.experience - horse_level_experience(horse_level(a.experience)),
+                training_points = GREATEST(0, h.training_points + 5 * (horse_level(a.experience) - h.level)),
+                version = h.version + 1
+            FROM (
+                SELECT c.id,
+                       COUNT(e.id) FILTER (WHERE e.position = 1) AS races_won,
+                       COALESCE(SUM(e.earnings), 0) AS earnings,
+                       20 * COUNT(e.id) + 30 * COUNT(e.id) FILTER (WHERE e.position = 1) AS experience
+                FROM horses c
+                LEFT JOIN race_events e ON e.horse_id = c.id
+                    AND (e.tx_id, e.id) <= (CAST(CAST(:toTx AS TEXT) AS XID8), :toId)
+                WHERE c.id BETWEEN :lo AND :hi
+                GROUP BY c.id
+            ) a
+            WHERE h.id = a.id
+            """, nativeQuery = true)
+    int rebuildRaceCareers(@Param("lo") UUID lo, @Param("hi") UUID hi,
+                           @Param("toTx") long toTx, @Param("toId") long toId);
+
+    /**
+     * Horses in the level band still under the cap of 50 races run, best first.
+     * Ordered by the stored race_performance column so the partial index
+     * idx_horses_race_candidates (V4) serves the LIMIT. The cap is a literal,
+     * not a parameter: a generic plan for the prepared statement cannot prove
+     * that {@code races_run < $n} implies the index predicate, and would scan.
+     */
+    @Query(value = """
+            SELECT * FROM horses
+            WHERE level BETWEEN :minLevel AND :maxLevel
+              AND races_run < 50
+            ORDER BY race_performance DESC, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Horse> findRaceCandidates(@Param("minLevel") int minLevel,
+                                   @Param("maxLevel") int maxLevel,
+                                   @Param("limit") int limit);
 }
@@ -0,0 +1,27 @@
+package com.umamusume.backend.repository;
+
+import com.umamusume.backend.entity.ProjectionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectionCheckpointRepository extends JpaRepository<ProjectionCheckpoint, String> {
+    List<ProjectionCheckpoint> findAllByOrderByProjection();
+
+    // Empty while another instance is applying this projection or it is being rebuilt
+    @Query(value = """
+            SELECT * FROM projection_checkpoints
+            WHERE projection = :projection AND rebuilding = FALSE
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<ProjectionCheckpoint> lockIfIdle(@Param("projection") String projection);
+
+    @Query(value = "SELECT * FROM projection_checkpoints WHERE projection = :projection FOR UPDATE",
+            nativeQuery = true)
+    Optional<ProjectionCheckpoint> lock(@Param("projection") String projection);
+}
@@ -0,0 +1,54 @@
+package com.umamusume.backend.repository;
+
+import com.umamusume.backend.entity.RaceEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RaceEventRepository extends JpaRepository<RaceEvent, Long> {
+
+    interface EventPosition {
+        Long getTxId();
+        Long getId();
+        UUID getHorseId();
+    }
+
+    /**
+     * The next events after the given position, in position order. Only events
+     * written by transactions older than every transaction still running are
+     * returned: later positions can never be filled in behind them.
+     */
+    @Query(value = """
+            SELECT CAST(CAST(tx_id AS TEXT) AS BIGINT) AS "txId", id AS "id", horse_id AS "horseId"
+            FROM race_events
+            WHERE (tx_id, id) > (CAST(CAST(:txId AS TEXT) AS XID8), :eventId)
+              AND tx_id < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY tx_id, id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<EventPosition> findSettledAfter(@Param("txId") long txId,
+                                         @Param("eventId") long eventId,
+                                         @Param("limit") int limit);
+
+    // Position of the newest settled event, i.e. where a rebuild started now can read up to
+    @Query(value = """
+            SELECT CAST(CAST(tx_id AS TEXT) AS BIGINT) AS "txId", id AS "id", horse_id AS "horseId"
+            FROM race_events
+            WHERE tx_id < pg_snapshot_xmin(pg_current_snapshot())
+            ORDER BY tx_id DESC, id DESC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<EventPosition> findLastSettled();
+
+    @Query(value = """
+            SELECT COUNT(*) FROM race_events
+            WHERE (tx_id, id) > (CAST(CAST(:txId AS TEXT) AS XID8), :eventId)
+            """, nativeQuery = true)
+    long countAfter(@Param("txId") long txId, @Param("eventId") long eventId);
+}
@@ -1,15 +1,68 @@
 package com.umamusume.backend.repository;
 
+import com.umamusume.backend.dto.RaceResponseDto;
 import com.umamusume.backend.entity.Race;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface RaceRepository extends JpaRepository<Race, UUID> {
     List<Race> findByScheduledAtAfter(OffsetDateTime scheduledAt);
     List<Race> findByScheduledAtBetween(OffsetDateTime start, OffsetDateTime end);
+
+    // Served by the partial idx_races_open_scheduled_at index
+    List<Race> findByIsCompletedFalseAndScheduledAtAfterOrderByScheduledAt(OffsetDateTime scheduledAt);
+
+    // Keyset listing on (createdAt, id); fetch limit + 1 via Pageable to detect a next page
+    @Query("""
+            SELECT new com.umamusume.backend.dto.RaceResponseDto(
+                r.id, r.name, r.scheduledAt, r.basePrize, r.minLevel, r.maxLevel, r.maxParticipants,
+                r.raceType, r.distance, r.trackCondition, r.isCompleted, r.createdAt, r.seed)
+            FROM Race r
+            ORDER BY r.createdAt, r.id
+            """)
+    List<RaceResponseDto> findPage(Pageable pageable);
+
+    @Query("""
+            SELECT new com.umamusume.backend.dto.RaceResponseDto(
+                r.id, r.name, r.scheduledAt, r.basePrize, r.minLevel, r.maxLevel, r.maxParticipants,
+                r.raceType, r.distance, r.trackCondition, r.isCompleted, r.createdAt, r.seed)
+            FROM Race r
+            WHERE (r.createdAt, r.id) > (:createdAt, :id)
+            ORDER BY r.createdAt, r.id
+            """)
+    List<RaceResponseDto> findPageAfter(@Param("createdAt") OffsetDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Pageable pageable);
+
+    // SELECT ... FOR UPDATE: a second simulation of the same race waits here, then sees it completed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Race r WHERE r.id = :id")
+    Optional<Race> lockById(@Param("id") UUID id);
+
+    // Row lock is held until the caller's transaction ends; other instances skip the claimed race.
+    // Races backed off after a failed simulation (V13) wait out next_attempt_at.
+    @Query(value = """
+            SELECT * FROM races
+            WHERE is_completed = FALSE
+              AND scheduled_at <= :now
+              AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+            ORDER BY scheduled_at
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    Optional<Race> lockNextDueRace(@Param("now") OffsetDateTime now);
+
+    @Query("SELECT MIN(r.scheduledAt) FROM Race r WHERE r.isCompleted = false AND r.scheduledAt <= :now")
+    Optional<OffsetDateTime> findOldestDueScheduledAt(@Param("now") OffsetDateTime now);
 }
@@ -1,17 +1,45 @@
 package com.umamusume.backend.repository;
 
+import com.umamusume.backend.dto.RaceResultResponseDto;
 import com.umamusume.backend.entity.Race;
 import com.umamusume.backend.entity.RaceResult;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface RaceResultRepository extends JpaRepository<RaceResult, UUID> {
     List<RaceResult> findByRace(Race race);
     List<RaceResult> findByRaceId(UUID raceId);
     List<RaceResult> findByHorseId(UUID horseId);
-}
 
+    // Streaming projections: must be consumed inside a transaction so the cursor stays open
+    @Query("""
+            SELECT new com.umamusume.backend.dto.RaceResultResponseDto(
+                r.race.id, h.id, h.name, r.position, r.earnings, r.raceTime, r.performanceScore, r.createdAt)
+            FROM RaceResult r JOIN r.horse h
+            WHERE r.race.id = :raceId
+            ORDER BY r.position
+            """)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<RaceResultResponseDto> streamByRaceId(@Param("raceId") UUID raceId);
+
+    @Query("""
+            SELECT new com.umamusume.backend.dto.RaceResultResponseDto(
+                r.race.id, h.id, h.name, r.position, r.earnings, r.raceTime, r.performanceScore, r.createdAt)
+            FROM RaceResult r JOIN r.horse h
+            WHERE h.id = :horseId
+            ORDER BY r.createdAt DESC
+            """)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<RaceResultResponseDto> streamByHorseId(@Param("horseId") UUID horseId);
+}
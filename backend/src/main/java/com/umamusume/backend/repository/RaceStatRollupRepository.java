@@ -0,0 +1,38 @@
+package com.umamusume.backend.repository;
+
+import com.umamusume.backend.entity.RaceStatRollup;
+import com.umamusume.backend.entity.RaceStatRollup.Dimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RaceStatRollupRepository extends JpaRepository<RaceStatRollup, RaceStatRollup.Key> {
+    List<RaceStatRollup> findByIdDimensionOrderByIdDimensionValue(Dimension dimension);
+
+    @Modifying
+    @Query(value = "DELETE FROM race_stat_rollups", nativeQuery = true)
+    void deleteAllRollups();
+
+    // Same aggregation as the V8 backfill, over every summary in the table
+    @Modifying
+    @Query(value = """
+            INSERT INTO race_stat_rollups (dimension, dimension_value, races, participants, total_time,
+                                           fastest_time, slowest_time, total_prize_pool)
+            SELECT dimension, dimension_value, COUNT(*), SUM(s.participants), SUM(s.average_time * s.participants),
+                   MIN(s.fastest_time), MAX(s.slowest_time), SUM(s.total_prize_pool)
+            FROM race_summaries s
+            JOIN races r ON r.id = s.race_id
+            CROSS JOIN LATERAL (VALUES
+                ('RACE_TYPE', r.race_type),
+                ('DISTANCE', CAST(r.distance AS TEXT)),
+                ('TRACK_CONDITION', r.track_condition)
+            ) AS d(dimension, dimension_value)
+            GROUP BY dimension, dimension_value
+            """, nativeQuery = true)
+    int insertRollupsFromSummaries();
+}
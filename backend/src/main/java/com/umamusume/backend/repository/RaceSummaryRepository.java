@@ -0,0 +1,110 @@
+package com.umamusume.backend.repository;
+
+import com.umamusume.backend.entity.RaceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface RaceSummaryRepository extends JpaRepository<RaceSummary, UUID> {
+
+    /**
+     * Race-summaries projection: summarises every race with an event in positions
+     * (from, to] and adds the new summaries to the rollups. A race's events are
+     * written in one transaction, so all of them are visible once any is; races
+     * already summarised are skipped, which keeps the rollups exact on replay.
+     * Rollup rows are upserted in key order so concurrent writers cannot deadlock.
+     */
+    @Modifying
+    @Query(value = """
+            WITH summaries AS (
+                SELECT e.race_id,
+                       MIN(e.race_type) AS race_type,
+                       MIN(e.distance) AS distance,
+                       MIN(e.track_condition) AS track_condition,
+                       COUNT(*) AS participants,
+                       SUM(e.race_time) AS total_time,
+                       MIN(e.race_time) AS fastest_time,
+                       MAX(e.race_time) AS slowest_time,
+                       SUM(e.earnings) AS total_prize_pool,
+                       (ARRAY_AGG(e.horse_id ORDER BY e.position))[1] AS winner_horse_id,
+                       (ARRAY_AGG(e.horse_name ORDER BY e.position))[1] AS winner_name,
+                       MAX(e.recorded_at) AS recorded_at
+                FROM race_events e
+                WHERE e.race_id IN (
+                    SELECT race_id FROM race_events
+                    WHERE (tx_id, id) > (CAST(CAST(:fromTx AS TEXT) AS XID8), :fromId)
+                      AND (tx_id, id) <= (CAST(CAST(:toTx AS TEXT) AS XID8), :toId)
+                )
+                  AND EXISTS (SELECT 1 FROM races r WHERE r.id = e.race_id)
+                GROUP BY e.race_id
+            ), inserted AS (
+                INSERT INTO race_summaries (race_id, participants, average_time, fastest_time, slowest_time,
+                                            total_prize_pool, winner_horse_id, winner_name, created_at)
+                SELECT s.race_id, s.participants, s.total_time / s.participants, s.fastest_time, s.slowest_time,
+                       s.total_prize_pool, w.id, s.winner_name, s.recorded_at
+                FROM summaries s
+                LEFT JOIN horses w ON w.id = s.winner_horse_id
+                ON CONFLICT (race_id) DO NOTHING
+                RETURNING race_id
+            )
+            INSERT INTO race_stat_rollups AS r (dimension, dimension_value, races, participants, total_time,
+                                                fastest_time, slowest_time, total_prize_pool)
+            SELECT d.dimension, d.dimension_value, COUNT(*), SUM(s.participants), SUM(s.total_time),
+                   MIN(s.fastest_time), MAX(s.slowest_time), SUM(s.total_prize_pool)
+            FROM summaries s
+            JOIN inserted i ON i.race_id = s.race_id
+            CROSS JOIN LATERAL (VALUES
+                ('RACE_TYPE', s.race_type),
+                ('DISTANCE', CAST(s.distance AS TEXT)),
+                ('TRACK_CONDITION', s.track_condition)
+            ) AS d(dimension, dimension_value)
+            GROUP BY d.dimension, d.dimension_value
+            ORDER BY d.dimension, d.dimension_value
+            ON CONFLICT (dimension, dimension_value) DO UPDATE SET
+                races = r.races + EXCLUDED.races,
+                participants = r.participants + EXCLUDED.participants,
+                total_time = r.total_time + EXCLUDED.total_time,
+                fastest_time = LEAST(r.fastest_time, EXCLUDED.fastest_time),
+                slowest_time = GREATEST(r.slowest_time, EXCLUDED.slowest_time),
+                total_prize_pool = r.total_prize_pool + EXCLUDED.total_prize_pool
+            """, nativeQuery = true)
+    int applyRaceEvents(@Param("fromTx") long fromTx, @Param("fromId") long fromId,
+                        @Param("toTx") long toTx, @Param("toId") long toId);
+
+    // Race-summaries rebuild for the races with ids in [lo, hi]; rollups are rebuilt separately
+    @Modifying
+    @Query(value = "DELETE FROM race_summaries WHERE race_id BETWEEN :lo AND :hi", nativeQuery = true)
+    int deleteByRaceIdBetween(@Param("lo") UUID lo, @Param("hi") UUID hi);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO race_summaries (race_id, participants, average_time, fastest_time, slowest_time,
+                                        total_prize_pool, winner_horse_id, winner_name, created_at)
+            SELECT s.race_id, s.participants, s.average_time, s.fastest_time, s.slowest_time,
+                   s.total_prize_pool, w.id, s.winner_name, s.recorded_at
+            FROM (
+                SELECT e.race_id,
+                       COUNT(*) AS participants,
+                       AVG(e.race_time) AS average_time,
+                       MIN(e.race_time) AS fastest_time,
+                       MAX(e.race_time) AS slowest_time,
+                       SUM(e.earnings) AS total_prize_pool,
+                       (ARRAY_AGG(e.horse_id ORDER BY e.position))[1] AS winner_horse_id,
+                       (ARRAY_AGG(e.horse_name ORDER BY e.position))[1] AS winner_name,
+                       MAX(e.recorded_at) AS recorded_at
+                FROM race_events e
+                WHERE e.race_id BETWEEN :lo AND :hi
+                  AND (e.tx_id, e.id) <= (CAST(CAST(:toTx AS TEXT) AS XID8), :toId)
+                  AND EXISTS (SELECT 1 FROM races r WHERE r.id = e.race_id)
+                GROUP BY e.race_id
+            ) s
+            LEFT JOIN horses w ON w.id = s.winner_horse_id
+            """, nativeQuery = true)
+    int rebuildSummaries(@Param("lo") UUID lo, @Param("hi") UUID hi,
+                         @Param("toTx") long toTx, @Param("toId") long toId);
+}
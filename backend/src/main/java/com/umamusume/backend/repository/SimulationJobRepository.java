@@ -0,0 +1,38 @@
+package com.umamusume.backend.repository;
+
+import com.umamusume.backend.entity.SimulationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Repository
+public interface SimulationJobRepository extends JpaRepository<SimulationJob, UUID> {
+
+    // A job finishes after it is submitted, so the submitted_at index narrows this down
+    @Modifying
+    @Query("""
+            DELETE FROM SimulationJob j
+            WHERE j.submittedAt < :cutoff
+              AND (j.finishedAt IS NULL OR j.finishedAt < :cutoff)
+            """)
+    int deleteOlderThan(@Param("cutoff") OffsetDateTime cutoff);
+
+    // Queued or running jobs submitted before the cutoff; the instance that took them has gone
+    @Modifying
+    @Query("""
+            UPDATE SimulationJob j
+            SET j.status = com.umamusume.backend.entity.SimulationJob.Status.FAILED,
+                j.error = :error, j.finishedAt = :now
+            WHERE j.status IN (com.umamusume.backend.entity.SimulationJob.Status.QUEUED,
+                               com.umamusume.backend.entity.SimulationJob.Status.RUNNING)
+              AND j.submittedAt < :cutoff
+            """)
+    int failUnfinished(@Param("cutoff") OffsetDateTime cutoff,
+                       @Param("now") OffsetDateTime now,
+                       @Param("error") String error);
+}
@@ -0,0 +1,24 @@
+package com.umamusume.backend.repository;
+
+import com.umamusume.backend.dto.TournamentHeatResultDto;
+import com.umamusume.backend.entity.TournamentHeatResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TournamentHeatResultRepository extends JpaRepository<TournamentHeatResult, UUID> {
+
+    @Query("""
+            SELECT new com.umamusume.backend.dto.TournamentHeatResultDto(
+                r.heat, r.position, h.id, h.name, r.performanceScore, r.qualified)
+            FROM TournamentHeatResult r JOIN r.horse h
+            WHERE r.tournament.id = :tournamentId AND r.round = :round
+            ORDER BY r.heat, r.position
+            """)
+    List<TournamentHeatResultDto> findRound(@Param("tournamentId") UUID tournamentId, @Param("round") int round);
+}
@@ -0,0 +1,25 @@
+package com.umamusume.backend.repository;
+
+import com.umamusume.backend.entity.Tournament;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Repository
+public interface TournamentRepository extends JpaRepository<Tournament, UUID> {
+
+    // Queued or running tournaments with no progress since the cutoff; their instance has gone
+    @Modifying
+    @Query("""
+            UPDATE Tournament t SET t.status = com.umamusume.backend.entity.Tournament.Status.FAILED
+            WHERE t.status IN (com.umamusume.backend.entity.Tournament.Status.PENDING,
+                               com.umamusume.backend.entity.Tournament.Status.RUNNING)
+              AND COALESCE(t.heartbeatAt, t.createdAt) < :cutoff
+            """)
+    int failStale(@Param("cutoff") OffsetDateTime cutoff);
+}
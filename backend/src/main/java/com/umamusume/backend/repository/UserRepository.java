@@ -1,9 +1,15 @@
 package com.umamusume.backend.repository;
 
+import com.umamusume.backend.dto.UserResponseDto;
 import com.umamusume.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +17,22 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    // Keyset listing on (createdAt, id); fetch limit + 1 via Pageable to detect a next page
+    @Query("""
+            SELECT new com.umamusume.backend.dto.UserResponseDto(u.id, u.username, u.createdAt)
+            FROM User u
+            ORDER BY u.createdAt, u.id
+            """)
+    List<UserResponseDto> findPage(Pageable pageable);
+
+    @Query("""
+            SELECT new com.umamusume.backend.dto.UserResponseDto(u.id, u.username, u.createdAt)
+            FROM User u
+            WHERE (u.createdAt, u.id) > (:createdAt, :id)
+            ORDER BY u.createdAt, u.id
+            """)
+    List<UserResponseDto> findPageAfter(@Param("createdAt") OffsetDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Pageable pageable);
 }
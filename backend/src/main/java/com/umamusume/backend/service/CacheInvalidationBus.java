@@ -0,0 +1,74 @@
+package com.umamusume.backend.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Broadcasts cache evictions to every backend instance over Postgres NOTIFY.
+ * pg_notify is transactional, so inside a transaction the message is only
+ * delivered if and when it commits. {@link CacheInvalidationListener} applies
+ * the messages on each node.
+ */
+@Component
+@ConditionalOnProperty(name = "game.cache.invalidation-bus.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationBus {
+
+    static final String CHANNEL = "game_cache_invalidation";
+
+    // Keeps each payload well under Postgres' 8000-byte NOTIFY limit
+    private static final int KEYS_PER_MESSAGE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationBus(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void publish(String cacheName, List<UUID> keys) {
+        for (int from = 0; from < keys.size(); from += KEYS_PER_MESSAGE) {
+            List<UUID> chunk = keys.subList(from, Math.min(keys.size(), from + KEYS_PER_MESSAGE));
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, encode(cacheName, chunk));
+        }
+    }
+
+    // Payload format: <origin node>|<cache name>|<id>,<id>,...
+    private String encode(String cacheName, List<UUID> keys) {
+        StringBuilder payload = new StringBuilder(nodeId).append('|').append(cacheName).append('|');
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                payload.append(',');
+            }
+            payload.append(keys.get(i));
+        }
+        return payload.toString();
+    }
+
+    /**
+     * Parses a received payload, returning empty for this node's own messages
+     * (already applied locally) and for anything malformed.
+     */
+    Optional<Invalidation> decode(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId) || parts[2].isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            List<UUID> keys = new ArrayList<>();
+            for (String key : parts[2].split(",")) {
+                keys.add(UUID.fromString(key));
+            }
+            return Optional.of(new Invalidation(parts[1], keys));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    record Invalidation(String cacheName, List<UUID> keys) {}
+}
@@ -0,0 +1,119 @@
+package com.umamusume.backend.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Holds a dedicated (non-pooled) connection that LISTENs for
+ * {@link CacheInvalidationBus} messages and evicts the local cache entries.
+ * Any (re)connect clears the local caches, since messages sent while
+ * disconnected are lost.
+ */
+@Component
+@ConditionalOnProperty(name = "game.cache.invalidation-bus.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private static final int POLL_TIMEOUT_MS = 1_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationBus bus;
+    private final GameCacheInvalidator cacheInvalidator;
+    private final LeaderboardService leaderboardService;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public CacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                     CacheInvalidationBus bus,
+                                     GameCacheInvalidator cacheInvalidator,
+                                     LeaderboardService leaderboardService) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.bus = bus;
+        this.cacheInvalidator = cacheInvalidator;
+        this.leaderboardService = leaderboardService;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::listen, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void apply(CacheInvalidationBus.Invalidation invalidation) {
+        cacheInvalidator.evictNow(invalidation.cacheName(), invalidation.keys());
+        // Every horse change on another node publishes a horseStats eviction
+        if (GameLookupService.HORSE_STATS.equals(invalidation.cacheName())) {
+            leaderboardService.refresh(invalidation.keys());
+        }
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CacheInvalidationBus.CHANNEL);
+                }
+                cacheInvalidator.clearAll();
+                if (reconnecting) {
+                    leaderboardService.load();
+                }
+                reconnecting = true;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        bus.decode(notification.getParameter()).ifPresent(this::apply);
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, retrying in {} ms", RECONNECT_DELAY_MS, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.datasource.RecentWrites;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evicts {@link GameLookupService} entries when the underlying rows change.
+ * Inside a transaction the eviction is deferred until commit, so a concurrent
+ * reader cannot repopulate the cache with the pre-commit row. Evictions are
+ * also published on the {@link CacheInvalidationBus} so other instances drop
+ * their copies. With a read replica, evicted ids are also remembered in
+ * {@link RecentWrites} so they are read from the primary until it catches up.
+ */
+@Component
+public class GameCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<CacheInvalidationBus> bus;
+    private final ObjectProvider<RecentWrites> recentWrites;
+
+    public GameCacheInvalidator(CacheManager cacheManager,
+                                ObjectProvider<CacheInvalidationBus> bus,
+                                ObjectProvider<RecentWrites> recentWrites) {
+        this.cacheManager = cacheManager;
+        this.bus = bus;
+        this.recentWrites = recentWrites;
+    }
+
+    public void evictRace(UUID raceId) {
+        evict(GameLookupService.RACES, List.of(raceId));
+    }
+
+    public void evictUser(UUID userId) {
+        evict(GameLookupService.USERS, List.of(userId));
+    }
+
+    public void evictHorseStats(UUID horseId) {
+        evict(GameLookupService.HORSE_STATS, List.of(horseId));
+    }
+
+    public void evictHorseStats(Collection<UUID> horseIds) {
+        evict(GameLookupService.HORSE_STATS, List.copyOf(horseIds));
+    }
+
+    public void evictLineage(UUID horseId) {
+        evict(GameLookupService.LINEAGES, List.of(horseId));
+    }
+
+    private void evict(String cacheName, List<UUID> keys) {
+        bus.ifAvailable(b -> b.publish(cacheName, keys));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(cacheName, keys);
+                }
+            });
+        } else {
+            evictNow(cacheName, keys);
+        }
+    }
+
+    void clearAll() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    void evictNow(String cacheName, Collection<UUID> keys) {
+        recentWrites.ifAvailable(r -> r.markWritten(keys));
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        for (UUID key : keys) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.dto.HorseStatsDto;
+import com.umamusume.backend.dto.LineageNodeDto;
+import com.umamusume.backend.dto.RaceResponseDto;
+import com.umamusume.backend.dto.UserResponseDto;
+import com.umamusume.backend.repository.HorseRepository;
+import com.umamusume.backend.repository.RaceRepository;
+import com.umamusume.backend.repository.UserRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cached read path for hot lookups. Values are immutable DTO snapshots, never
+ * entities, so they are safe to share between requests. Writers evict through
+ * {@link GameCacheInvalidator}.
+ */
+@Service
+public class GameLookupService {
+
+    public static final String RACES = "races";
+    public static final String USERS = "users";
+    public static final String HORSE_STATS = "horseStats";
+    public static final String LINEAGES = "lineages";
+
+    // Deep enough for PedigreeService's largest tree; deeper ancestors are treated as founders
+    public static final int LINEAGE_DEPTH = 8;
+
+    private final RaceRepository raceRepository;
+    private final UserRepository userRepository;
+    private final HorseRepository horseRepository;
+
+    public GameLookupService(RaceRepository raceRepository,
+                             UserRepository userRepository,
+                             HorseRepository horseRepository) {
+        this.raceRepository = raceRepository;
+        this.userRepository = userRepository;
+        this.horseRepository = horseRepository;
+    }
+
+    @Cacheable(cacheNames = RACES, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<RaceResponseDto> findRace(UUID raceId) {
+        return raceRepository.findById(raceId).map(RaceResponseDto::fromEntity);
+    }
+
+    @Cacheable(cacheNames = USERS, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<UserResponseDto> findUser(UUID userId) {
+        return userRepository.findById(userId).map(UserResponseDto::fromEntity);
+    }
+
+    @Cacheable(cacheNames = HORSE_STATS, unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<HorseStatsDto> findHorseStats(UUID horseId) {
+        return horseRepository.findById(horseId).map(HorseStatsDto::fromEntity);
+    }
+
+    /**
+     * The horse and its ancestors up to {@link #LINEAGE_DEPTH} generations back,
+     * or an empty list if it does not exist. Parentage never changes after a
+     * horse is created, so entries are only evicted when the horse is deleted.
+     */
+    @Cacheable(cacheNames = LINEAGES, unless = "#result.isEmpty()")
+    @Transactional(readOnly = true)
+    public List<LineageNodeDto> findLineage(UUID horseId) {
+        return horseRepository.findAncestry(horseId, LINEAGE_DEPTH).stream()
+                .map(row -> new LineageNodeDto(row.getId(), row.getName(), row.getSireId(), row.getDamId(),
+                        row.getGeneration()))
+                .toList();
+    }
+}
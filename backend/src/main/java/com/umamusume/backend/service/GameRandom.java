@@ -0,0 +1,41 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.entity.Race;
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Single source of randomness for game rules. Unseeded rolls use the calling
+ * thread's own generator, so concurrent requests never contend on shared state;
+ * race simulations use a generator seeded from the race so they can be replayed.
+ */
+@Component
+public class GameRandom {
+
+    public RandomGenerator current() {
+        return ThreadLocalRandom.current();
+    }
+
+    /**
+     * Returns a generator seeded from {@link Race#getSeed()}. Races get a random
+     * seed when they are created; one without a seed (created before that) draws
+     * one here, which is persisted when the simulation commits. A rolled-back
+     * attempt wrote no results, so drawing again on retry reveals nothing.
+     */
+    public RandomGenerator forRace(Race race) {
+        if (race.getSeed() == null) {
+            race.setSeed(current().nextLong());
+        }
+        return new SplittableRandom(race.getSeed());
+    }
+
+    /**
+     * Root generator for work that is split across threads (see {@link SplittableRandom#split()}).
+     */
+    public SplittableRandom newSplittable() {
+        return new SplittableRandom(current().nextLong());
+    }
+}
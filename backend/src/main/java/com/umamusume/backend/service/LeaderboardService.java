@@ -0,0 +1,257 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.datasource.ReplicaRouting;
+import com.umamusume.backend.dto.HorseRankingDto;
+import com.umamusume.backend.dto.LeaderboardEntryDto;
+import com.umamusume.backend.entity.Horse;
+import com.umamusume.backend.repository.HorseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory leaderboards, loaded once at startup and then kept current
+ * horse-by-horse as training, resting and racing commit. Reads never touch
+ * the database. Changes made on other instances arrive through
+ * {@link CacheInvalidationListener}, which calls {@link #refresh}.
+ */
+@Service
+public class LeaderboardService {
+
+    public enum Board {
+        EARNINGS("earnings"),
+        WIN_RATE("win-rate"),
+        PERFORMANCE("performance");
+
+        private final String slug;
+
+        Board(String slug) {
+            this.slug = slug;
+        }
+
+        public static Board fromSlug(String slug) {
+            for (Board board : values()) {
+                if (board.slug.equals(slug)) {
+                    return board;
+                }
+            }
+            throw new IllegalArgumentException("Unknown leaderboard: " + slug);
+        }
+    }
+
+    private final HorseRepository horseRepository;
+    private final int winRateMinRaces;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, HorseRankingDto> horses = new HashMap<>();
+    private final Map<Board, OrderStatisticTree> boards = new EnumMap<>(Board.class);
+    // Changes applied while load() is streaming, replayed over what it read
+    // (a null value is a removal); null when no load is in progress
+    private Map<UUID, HorseRankingDto> changedDuringLoad;
+
+    public LeaderboardService(HorseRepository horseRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${game.leaderboard.win-rate-min-races:10}") int winRateMinRaces) {
+        this.horseRepository = horseRepository;
+        this.winRateMinRaces = winRateMinRaces;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        for (Board board : Board.values()) {
+            boards.put(board, new OrderStatisticTree());
+        }
+    }
+
+    /**
+     * Rebuilds every board from the database. Runs at startup and whenever the
+     * invalidation listener reconnects, since notifications may have been missed.
+     * Reads the primary, as a lagging replica would put back values this instance
+     * has already moved past; anything applied while the stream runs is replayed
+     * on top of it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<HorseRankingDto> loaded;
+        try {
+            loaded = ReplicaRouting.onPrimary(() -> readOnlyTransaction.execute(status -> {
+                try (Stream<HorseRankingDto> rankings = horseRepository.streamRankings()) {
+                    return rankings.toList();
+                }
+            }));
+        } catch (RuntimeException e) {
+            // The boards are left as they were, changes included
+            lock.writeLock().lock();
+            try {
+                changedDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Map<UUID, HorseRankingDto> replay = changedDuringLoad;
+            changedDuringLoad = null;
+            horses.clear();
+            boards.values().forEach(OrderStatisticTree::clear);
+            loaded.forEach(this::apply);
+            replay.forEach((id, horse) -> {
+                if (horse == null) {
+                    remove(id);
+                } else {
+                    apply(horse);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<LeaderboardEntryDto> top(Board board, int limit) {
+        lock.readLock().lock();
+        try {
+            List<OrderStatisticTree.Ranked> ranked = boards.get(board).top(limit);
+            List<LeaderboardEntryDto> entries = new ArrayList<>(ranked.size());
+            for (int i = 0; i < ranked.size(); i++) {
+                OrderStatisticTree.Ranked entry = ranked.get(i);
+                entries.add(LeaderboardEntryDto.of(i + 1, entry.score(), horses.get(entry.id())));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<LeaderboardEntryDto> rankOf(Board board, UUID horseId) {
+        lock.readLock().lock();
+        try {
+            HorseRankingDto horse = horses.get(horseId);
+            if (horse == null) {
+                return Optional.empty();
+            }
+            OptionalDouble score = score(board, horse);
+            if (score.isEmpty()) {
+                return Optional.empty();
+            }
+            int rank = boards.get(board).rank(score.getAsDouble(), horseId) + 1;
+            return Optional.of(LeaderboardEntryDto.of(rank, score.getAsDouble(), horse));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-ranks the given horses using their current in-memory values once the
+     * surrounding transaction commits (immediately if there is none). The
+     * snapshot is taken after commit so it carries the version the flush
+     * assigned; commits on different threads can land here in either order,
+     * and {@link #apply} keeps whichever is newer.
+     */
+    public void track(Collection<Horse> changed) {
+        List<Horse> horses = List.copyOf(changed);
+        afterCommit(() -> horses.stream().map(HorseRankingDto::fromEntity).forEach(this::apply));
+    }
+
+    public void track(Horse changed) {
+        track(List.of(changed));
+    }
+
+    public void untrack(UUID horseId) {
+        afterCommit(() -> remove(horseId));
+    }
+
+    /**
+     * Reloads the given horses from the database, dropping any that no longer exist.
+     */
+    public void refresh(Collection<UUID> horseIds) {
+        Set<UUID> missing = new HashSet<>(horseIds);
+        for (HorseRankingDto ranking : horseRepository.findRankingsByIdIn(horseIds)) {
+            apply(ranking);
+            missing.remove(ranking.id());
+        }
+        missing.forEach(this::remove);
+    }
+
+    private void apply(HorseRankingDto horse) {
+        lock.writeLock().lock();
+        try {
+            HorseRankingDto previous = horses.get(horse.id());
+            if (previous != null && horse.isOlderThan(previous)) {
+                return;
+            }
+            horses.put(horse.id(), horse);
+            if (changedDuringLoad != null) {
+                changedDuringLoad.put(horse.id(), horse);
+            }
+            for (Board board : Board.values()) {
+                OrderStatisticTree tree = boards.get(board);
+                if (previous != null) {
+                    score(board, previous).ifPresent(score -> tree.remove(score, previous.id()));
+                }
+                score(board, horse).ifPresent(score -> tree.insert(score, horse.id()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(UUID horseId) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.put(horseId, null);
+            }
+            HorseRankingDto previous = horses.remove(horseId);
+            if (previous == null) {
+                return;
+            }
+            for (Board board : Board.values()) {
+                score(board, previous).ifPresent(score -> boards.get(board).remove(score, horseId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Empty when the horse does not qualify for the board
+    private OptionalDouble score(Board board, HorseRankingDto horse) {
+        return switch (board) {
+            case EARNINGS -> OptionalDouble.of(horse.totalEarnings());
+            case WIN_RATE -> horse.racesRun() >= winRateMinRaces
+                    ? OptionalDouble.of((double) horse.racesWon() / horse.racesRun())
+                    : OptionalDouble.empty();
+            case PERFORMANCE -> OptionalDouble.of(horse.racePerformance());
+        };
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
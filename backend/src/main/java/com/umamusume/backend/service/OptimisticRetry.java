@@ -0,0 +1,55 @@
+package com.umamusume.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a unit of work that lost an optimistic-lock race on a versioned
+ * entity. The work must open its own transaction (e.g. call a
+ * {@code @Transactional} bean method) so each attempt re-reads fresh rows.
+ */
+@Component
+public class OptimisticRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetry(@Value("${game.optimistic-retry.max-attempts:5}") int maxAttempts,
+                           @Value("${game.optimistic-retry.backoff-ms:10}") long backoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public <T> T run(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return work.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict, retrying (attempt {}/{})", attempt + 1, maxAttempts);
+                sleepWithJitter(attempt);
+            }
+        }
+    }
+
+    private void sleepWithJitter(int attempt) {
+        // Randomised so contending requests do not collide again in lockstep
+        long delay = ThreadLocalRandom.current().nextLong(backoffMillis * attempt + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying", e);
+        }
+    }
+}
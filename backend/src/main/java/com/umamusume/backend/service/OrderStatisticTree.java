@@ -0,0 +1,152 @@
+package com.umamusume.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Treap ordered by score (highest first, ties by id) where every node knows
+ * its subtree size, giving O(log n) insert, remove and rank lookups.
+ * Not thread-safe; callers synchronise.
+ */
+final class OrderStatisticTree {
+
+    private static final class Node {
+        final double score;
+        final UUID id;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(double score, UUID id) {
+            this.score = score;
+            this.id = id;
+        }
+    }
+
+    record Ranked(UUID id, double score) {}
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    void insert(double score, UUID id) {
+        Node[] parts = split(root, score, id);
+        root = merge(merge(parts[0], new Node(score, id)), parts[1]);
+    }
+
+    void remove(double score, UUID id) {
+        root = remove(root, score, id);
+    }
+
+    /**
+     * 0-based position of the entry, i.e. the number of entries ranked above it.
+     */
+    int rank(double score, UUID id) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, id, node);
+            if (cmp <= 0) {
+                if (cmp == 0) {
+                    return rank + size(node.left);
+                }
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    List<Ranked> top(int limit) {
+        List<Ranked> out = new ArrayList<>(Math.min(limit, size()));
+        collect(root, limit, out);
+        return out;
+    }
+
+    private static void collect(Node node, int limit, List<Ranked> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, out);
+        if (out.size() < limit) {
+            out.add(new Ranked(node.id, node.score));
+            collect(node.right, limit, out);
+        }
+    }
+
+    // Negative when (score, id) ranks above the node
+    private static int compare(double score, UUID id, Node node) {
+        int cmp = Double.compare(node.score, score);
+        return cmp != 0 ? cmp : id.compareTo(node.id);
+    }
+
+    // Splits into entries ranked strictly above (score, id) and the rest
+    private static Node[] split(Node node, double score, UUID id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(score, id, node) > 0) {
+            Node[] parts = split(node.right, score, id);
+            node.right = parts[0];
+            update(node);
+            return new Node[] {node, parts[1]};
+        }
+        Node[] parts = split(node.left, score, id);
+        node.left = parts[1];
+        update(node);
+        return new Node[] {parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node remove(Node node, double score, UUID id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, id, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, score, id);
+        } else {
+            node.right = remove(node.right, score, id);
+        }
+        update(node);
+        return node;
+    }
+
+    private static void update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,149 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.dto.LineageNodeDto;
+import com.umamusume.backend.dto.PedigreeDto;
+import com.umamusume.backend.repository.HorseRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Ancestry and descendant views built from a single recursive query each, and
+ * Wright's inbreeding coefficient for a prospective pairing.
+ */
+@Service
+public class PedigreeService {
+
+    public static final String INBREEDING = "inbreeding";
+
+    public static final int MAX_PEDIGREE_DEPTH = GameLookupService.LINEAGE_DEPTH;
+    public static final int MAX_DESCENDANT_DEPTH = 8;
+    private static final int MAX_DESCENDANTS = 1000;
+
+    private final GameLookupService gameLookupService;
+    private final HorseRepository horseRepository;
+
+    public PedigreeService(GameLookupService gameLookupService, HorseRepository horseRepository) {
+        this.gameLookupService = gameLookupService;
+        this.horseRepository = horseRepository;
+    }
+
+    public Optional<PedigreeDto> getPedigree(UUID horseId, int depth) {
+        if (depth < 1 || depth > MAX_PEDIGREE_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + MAX_PEDIGREE_DEPTH);
+        }
+        Map<UUID, LineageNodeDto> nodes = index(gameLookupService.findLineage(horseId));
+        if (!nodes.containsKey(horseId)) {
+            return Optional.empty();
+        }
+        return Optional.of(tree(nodes, horseId, depth));
+    }
+
+    /**
+     * Offspring, grand-offspring and so on, nearest generation first, capped at
+     * {@value #MAX_DESCENDANTS} horses. Not cached: every foal changes it.
+     */
+    @Transactional(readOnly = true)
+    public List<LineageNodeDto> getDescendants(UUID horseId, int depth) {
+        if (depth < 1 || depth > MAX_DESCENDANT_DEPTH) {
+            throw new IllegalArgumentException("Depth must be between 1 and " + MAX_DESCENDANT_DEPTH);
+        }
+        return horseRepository.findDescendants(horseId, depth, MAX_DESCENDANTS).stream()
+                .map(row -> new LineageNodeDto(row.getId(), row.getName(), row.getSireId(), row.getDamId(),
+                        row.getGeneration()))
+                .toList();
+    }
+
+    /**
+     * Inbreeding coefficient of a foal of {@code sireId} x {@code damId}, i.e. the
+     * coancestry of the two parents. Ancestors beyond the cached lineage depth
+     * are treated as unrelated founders. Parentage is immutable, so the result
+     * never goes stale.
+     */
+    @Cacheable(cacheNames = INBREEDING)
+    public double inbreedingCoefficient(UUID sireId, UUID damId) {
+        Map<UUID, LineageNodeDto> nodes = index(gameLookupService.findLineage(sireId));
+        nodes.putAll(index(gameLookupService.findLineage(damId)));
+        return new Coancestry(nodes).of(sireId, damId);
+    }
+
+    private static PedigreeDto tree(Map<UUID, LineageNodeDto> nodes, UUID horseId, int depth) {
+        LineageNodeDto node = horseId == null ? null : nodes.get(horseId);
+        if (node == null) {
+            return null;
+        }
+        if (depth == 0) {
+            return new PedigreeDto(node.id(), node.name(), null, null);
+        }
+        return new PedigreeDto(node.id(), node.name(),
+                tree(nodes, node.sireId(), depth - 1),
+                tree(nodes, node.damId(), depth - 1));
+    }
+
+    private static Map<UUID, LineageNodeDto> index(List<LineageNodeDto> lineage) {
+        Map<UUID, LineageNodeDto> nodes = new HashMap<>();
+        lineage.forEach(node -> nodes.put(node.id(), node));
+        return nodes;
+    }
+
+    /**
+     * Recursive coancestry over a known pedigree: f(a, a) = (1 + f(sire, dam)) / 2,
+     * and otherwise f(a, b) = (f(sire(a), b) + f(dam(a), b)) / 2, always expanding
+     * the horse with the greater height so an ancestor is never expanded toward its
+     * own descendant. Height is 0 for unknown horses and 1 + the taller parent
+     * otherwise. Both functions are memoised, so the cost is quadratic in pedigree
+     * size rather than exponential in depth.
+     */
+    static final class Coancestry {
+
+        private record Pair(UUID a, UUID b) {}
+
+        private final Map<UUID, LineageNodeDto> nodes;
+        private final Map<UUID, Integer> heights = new HashMap<>();
+        private final Map<Pair, Double> memo = new HashMap<>();
+
+        Coancestry(Map<UUID, LineageNodeDto> nodes) {
+            this.nodes = nodes;
+        }
+
+        double of(UUID a, UUID b) {
+            if (a == null || b == null || !nodes.containsKey(a) || !nodes.containsKey(b)) {
+                return 0.0;
+            }
+            if (a.equals(b)) {
+                LineageNodeDto node = nodes.get(a);
+                return (1.0 + of(node.sireId(), node.damId())) / 2.0;
+            }
+            if (height(a) < height(b) || (height(a) == height(b) && a.compareTo(b) > 0)) {
+                UUID swap = a;
+                a = b;
+                b = swap;
+            }
+            Pair key = new Pair(a, b);
+            Double cached = memo.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            LineageNodeDto node = nodes.get(a);
+            double value = (of(node.sireId(), b) + of(node.damId(), b)) / 2.0;
+            memo.put(key, value);
+            return value;
+        }
+
+        private int height(UUID id) {
+            LineageNodeDto node = id == null ? null : nodes.get(id);
+            if (node == null) {
+                return 0;
+            }
+            Integer cached = heights.get(id);
+            if (cached != null) {
+                return cached;
+            }
+            int height = 1 + Math.max(height(node.sireId()), height(node.damId()));
+            heights.put(id, height);
+            return height;
+        }
+    }
+}
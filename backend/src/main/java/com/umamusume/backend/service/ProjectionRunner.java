@@ -0,0 +1,46 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.service.ProjectionService.Projection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the projections caught up with the race event log, off the request
+ * path. Checkpoints are locked with SKIP LOCKED, so with several instances
+ * each batch is applied by exactly one of them.
+ */
+@Component
+@ConditionalOnProperty(name = "game.projections.enabled", havingValue = "true", matchIfMissing = true)
+public class ProjectionRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionRunner.class);
+
+    private final ProjectionService projectionService;
+    private final int maxBatchesPerTick;
+
+    public ProjectionRunner(ProjectionService projectionService,
+                            @Value("${game.projections.max-batches-per-tick:50}") int maxBatchesPerTick) {
+        this.projectionService = projectionService;
+        this.maxBatchesPerTick = maxBatchesPerTick;
+    }
+
+    @Scheduled(fixedDelayString = "${game.projections.interval:PT1S}")
+    public void catchUp() {
+        for (Projection projection : Projection.values()) {
+            try {
+                for (int batch = 0; batch < maxBatchesPerTick; batch++) {
+                    if (projectionService.advance(projection) == 0) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // The batch rolled back with its checkpoint, so it is retried next tick
+                log.warn("Applying race events to projection {} failed", projection.getSlug(), e);
+            }
+        }
+    }
+}
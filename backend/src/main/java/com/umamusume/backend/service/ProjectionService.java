@@ -0,0 +1,328 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.dto.ProjectionStatusDto;
+import com.umamusume.backend.entity.ProjectionCheckpoint;
+import com.umamusume.backend.repository.HorseRepository;
+import com.umamusume.backend.repository.ProjectionCheckpointRepository;
+import com.umamusume.backend.repository.RaceEventRepository;
+import com.umamusume.backend.repository.RaceEventRepository.EventPosition;
+import com.umamusume.backend.repository.RaceStatRollupRepository;
+import com.umamusume.backend.repository.RaceSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Derives horse careers and race summaries from the append-only race event log.
+ * Each projection keeps a checkpoint and applies the events after it in
+ * batches, in the same transaction that moves the checkpoint, so every event
+ * is applied exactly once. Leaderboards follow the horse-careers projection.
+ * A rebuild recomputes a projection from the whole log, split into id ranges
+ * that are processed in parallel. It runs in the background; its progress on
+ * this instance is reported with the projection's status.
+ */
+@Service
+public class ProjectionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectionService.class);
+
+    public enum Projection {
+        HORSE_CAREERS("horse-careers"),
+        RACE_SUMMARIES("race-summaries");
+
+        private final String slug;
+
+        Projection(String slug) {
+            this.slug = slug;
+        }
+
+        public String getSlug() {
+            return slug;
+        }
+
+        public static Projection fromSlug(String slug) {
+            for (Projection projection : values()) {
+                if (projection.slug.equals(slug)) {
+                    return projection;
+                }
+            }
+            throw new IllegalArgumentException("Unknown projection: " + slug);
+        }
+    }
+
+    private record Position(long txId, long eventId) {}
+
+    private record IdRange(UUID lo, UUID hi) {}
+
+    // Last rebuild requested on this instance, read by getStatus() while the coordinator updates it
+    private static final class RebuildProgress {
+        private final int totalRanges;
+        private final AtomicInteger completedRanges = new AtomicInteger();
+        private volatile ProjectionStatusDto.RebuildState state = ProjectionStatusDto.RebuildState.QUEUED;
+        private volatile String error;
+
+        private RebuildProgress(int totalRanges) {
+            this.totalRanges = totalRanges;
+        }
+
+        private ProjectionStatusDto.Rebuild toDto() {
+            return new ProjectionStatusDto.Rebuild(state, completedRanges.get(), totalRanges, error);
+        }
+    }
+
+    private final ProjectionCheckpointRepository checkpointRepository;
+    private final RaceEventRepository raceEventRepository;
+    private final HorseRepository horseRepository;
+    private final RaceSummaryRepository raceSummaryRepository;
+    private final RaceStatRollupRepository raceStatRollupRepository;
+    private final GameCacheInvalidator cacheInvalidator;
+    private final LeaderboardService leaderboardService;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final List<IdRange> rebuildRanges;
+    private final ExecutorService rebuildWorkers;
+    private final ExecutorService rebuildCoordinator;
+
+    private final Set<Projection> rebuilding = ConcurrentHashMap.newKeySet();
+    private final Map<Projection, RebuildProgress> rebuilds = new ConcurrentHashMap<>();
+    private final Map<Projection, Timer> batchTimers = new EnumMap<>(Projection.class);
+    private final Map<Projection, Timer> rebuildTimers = new EnumMap<>(Projection.class);
+    private final Map<Projection, Counter> appliedEvents = new EnumMap<>(Projection.class);
+
+    public ProjectionService(ProjectionCheckpointRepository checkpointRepository,
+                             RaceEventRepository raceEventRepository,
+                             HorseRepository horseRepository,
+                             RaceSummaryRepository raceSummaryRepository,
+                             RaceStatRollupRepository raceStatRollupRepository,
+                             GameCacheInvalidator cacheInvalidator,
+                             LeaderboardService leaderboardService,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${game.projections.batch-size:1000}") int batchSize,
+                             @Value("${game.projections.rebuild-partitions:16}") int rebuildPartitions,
+                             @Value("${game.projections.rebuild-workers:4}") int rebuildWorkers) {
+        this.checkpointRepository = checkpointRepository;
+        this.raceEventRepository = raceEventRepository;
+        this.horseRepository = horseRepository;
+        this.raceSummaryRepository = raceSummaryRepository;
+        this.raceStatRollupRepository = raceStatRollupRepository;
+        this.cacheInvalidator = cacheInvalidator;
+        this.leaderboardService = leaderboardService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.rebuildRanges = idRanges(rebuildPartitions);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.rebuildWorkers = Executors.newFixedThreadPool(rebuildWorkers, runnable -> {
+            Thread thread = new Thread(runnable, "projection-rebuild-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // One rebuild at a time per instance; it hands the id ranges to the workers above
+        this.rebuildCoordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "projection-rebuild-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (Projection projection : Projection.values()) {
+            batchTimers.put(projection, Timer.builder("game.projection.batch")
+                    .description("Time to apply one batch of race events to a projection")
+                    .tag("projection", projection.slug)
+                    .register(meterRegistry));
+            rebuildTimers.put(projection, Timer.builder("game.projection.rebuild")
+                    .description("Time to rebuild a projection from the whole race event log")
+                    .tag("projection", projection.slug)
+                    .register(meterRegistry));
+            appliedEvents.put(projection, Counter.builder("game.projection.events")
+                    .description("Race events applied to a projection")
+                    .tag("projection", projection.slug)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Applies the next batch of settled events to the projection. Returns the
+     * number applied, which is 0 when it is caught up, being rebuilt, or being
+     * applied by another instance.
+     */
+    public int advance(Projection projection) {
+        List<UUID> changedHorses = new ArrayList<>();
+        int applied = batchTimers.get(projection).record(() -> transaction.execute(status -> {
+            Optional<ProjectionCheckpoint> locked = checkpointRepository.lockIfIdle(projection.slug);
+            if (locked.isEmpty()) {
+                return 0;
+            }
+            ProjectionCheckpoint checkpoint = locked.get();
+            List<EventPosition> events = raceEventRepository.findSettledAfter(
+                    checkpoint.getTxId(), checkpoint.getEventId(), batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            EventPosition last = events.get(events.size() - 1);
+            switch (projection) {
+                case HORSE_CAREERS -> {
+                    horseRepository.applyRaceEvents(checkpoint.getTxId(), checkpoint.getEventId(),
+                            last.getTxId(), last.getId());
+                    events.stream().map(EventPosition::getHorseId).distinct().forEach(changedHorses::add);
+                    cacheInvalidator.evictHorseStats(changedHorses);
+                }
+                case RACE_SUMMARIES -> raceSummaryRepository.applyRaceEvents(
+                        checkpoint.getTxId(), checkpoint.getEventId(), last.getTxId(), last.getId());
+            }
+            checkpoint.moveTo(last.getTxId(), last.getId());
+            return events.size();
+        }));
+
+        if (!changedHorses.isEmpty()) {
+            leaderboardService.refresh(changedHorses);
+        }
+        appliedEvents.get(projection).increment(applied);
+        return applied;
+    }
+
+    /**
+     * Queues a rebuild that recomputes the projection from every settled event,
+     * one id range per transaction across the rebuild workers, and returns
+     * straight away. Incremental updates are paused while it runs. If it fails
+     * they stay paused, since some ranges are already rebuilt past the
+     * checkpoint; running the rebuild again recovers.
+     *
+     * @throws IllegalStateException if this instance is already rebuilding it
+     */
+    public ProjectionStatusDto startRebuild(Projection projection) {
+        if (!rebuilding.add(projection)) {
+            throw new IllegalStateException("Projection " + projection.slug + " is already being rebuilt");
+        }
+        RebuildProgress progress = new RebuildProgress(rebuildRanges.size());
+        rebuilds.put(projection, progress);
+        try {
+            rebuildCoordinator.execute(() -> rebuild(projection, progress));
+        } catch (RejectedExecutionException e) {
+            rebuilding.remove(projection);
+            throw e;
+        }
+        return getStatus(projection);
+    }
+
+    private void rebuild(Projection projection, RebuildProgress progress) {
+        progress.state = ProjectionStatusDto.RebuildState.RUNNING;
+        try {
+            rebuildTimers.get(projection).record(() -> rebuildRanges(projection, progress));
+            if (projection == Projection.HORSE_CAREERS) {
+                // Other instances pick up the new values as their cache entries expire
+                cacheInvalidator.clearAll();
+                leaderboardService.load();
+            }
+            progress.state = ProjectionStatusDto.RebuildState.COMPLETED;
+        } catch (RuntimeException e) {
+            log.warn("Rebuild of projection {} failed; it stays paused until a rebuild succeeds", projection.slug, e);
+            progress.error = e.getMessage();
+            progress.state = ProjectionStatusDto.RebuildState.FAILED;
+        } finally {
+            rebuilding.remove(projection);
+        }
+    }
+
+    private void rebuildRanges(Projection projection, RebuildProgress progress) {
+        Position target = transaction.execute(status -> {
+            ProjectionCheckpoint checkpoint = lockCheckpoint(projection);
+            checkpoint.setRebuilding(true);
+            return raceEventRepository.findLastSettled()
+                    .map(last -> new Position(last.getTxId(), last.getId()))
+                    .orElse(new Position(0, 0));
+        });
+
+        CompletableFuture<?>[] ranges = rebuildRanges.stream()
+                .map(range -> CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+                    switch (projection) {
+                        case HORSE_CAREERS -> horseRepository.rebuildRaceCareers(
+                                range.lo(), range.hi(), target.txId(), target.eventId());
+                        case RACE_SUMMARIES -> {
+                            raceSummaryRepository.deleteByRaceIdBetween(range.lo(), range.hi());
+                            raceSummaryRepository.rebuildSummaries(
+                                    range.lo(), range.hi(), target.txId(), target.eventId());
+                        }
+                    }
+                    progress.completedRanges.incrementAndGet();
+                }), rebuildWorkers))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(ranges).join();
+
+        transaction.executeWithoutResult(status -> {
+            if (projection == Projection.RACE_SUMMARIES) {
+                raceStatRollupRepository.deleteAllRollups();
+                raceStatRollupRepository.insertRollupsFromSummaries();
+            }
+            ProjectionCheckpoint checkpoint = lockCheckpoint(projection);
+            checkpoint.moveTo(target.txId(), target.eventId());
+            checkpoint.setRebuilding(false);
+        });
+    }
+
+    public List<ProjectionStatusDto> getStatus() {
+        return checkpointRepository.findAllByOrderByProjection().stream()
+                .map(this::toStatus)
+                .toList();
+    }
+
+    public ProjectionStatusDto getStatus(Projection projection) {
+        ProjectionCheckpoint checkpoint = checkpointRepository.findById(projection.slug)
+                .orElseThrow(() -> new IllegalStateException("No checkpoint for projection " + projection.slug));
+        return toStatus(checkpoint);
+    }
+
+    private ProjectionStatusDto toStatus(ProjectionCheckpoint checkpoint) {
+        RebuildProgress progress = rebuilds.get(Projection.fromSlug(checkpoint.getProjection()));
+        return ProjectionStatusDto.fromEntity(checkpoint,
+                raceEventRepository.countAfter(checkpoint.getTxId(), checkpoint.getEventId()),
+                progress == null ? null : progress.toDto());
+    }
+
+    private ProjectionCheckpoint lockCheckpoint(Projection projection) {
+        return checkpointRepository.lock(projection.slug)
+                .orElseThrow(() -> new IllegalStateException("No checkpoint for projection " + projection.slug));
+    }
+
+    // Equal slices of the UUID space; Postgres orders uuids as unsigned 128-bit numbers
+    private static List<IdRange> idRanges(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Rebuild partitions must be at least 1");
+        }
+        BigInteger space = BigInteger.ONE.shiftLeft(128);
+        List<IdRange> ranges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BigInteger lo = space.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(count));
+            BigInteger next = space.multiply(BigInteger.valueOf(i + 1)).divide(BigInteger.valueOf(count));
+            ranges.add(new IdRange(uuid(lo), uuid(next.subtract(BigInteger.ONE))));
+        }
+        return ranges;
+    }
+
+    private static UUID uuid(BigInteger value) {
+        return new UUID(value.shiftRight(64).longValue(), value.longValue());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuildCoordinator.shutdownNow();
+        rebuildWorkers.shutdownNow();
+    }
+}
@@ -0,0 +1,150 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.dto.RaceResponseDto;
+import com.umamusume.backend.entity.Horse;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Estimates win/place probabilities for an upcoming race by running the
+ * simulation model many times without persisting anything. Only the field
+ * lookup runs in a transaction; the trials themselves hold no connection.
+ */
+@Service
+public class RaceOddsService {
+
+    public static final int MAX_TRIALS = 1_000_000;
+    private static final int PLACE_POSITIONS = 3;
+    private static final int TRIALS_PER_CHUNK = 8_192;
+
+    private final GameLookupService gameLookupService;
+    private final RaceSimulationService raceSimulationService;
+    private final GameRandom gameRandom;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RaceOddsService(GameLookupService gameLookupService,
+                           RaceSimulationService raceSimulationService,
+                           GameRandom gameRandom,
+                           PlatformTransactionManager transactionManager) {
+        this.gameLookupService = gameLookupService;
+        this.raceSimulationService = raceSimulationService;
+        this.gameRandom = gameRandom;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public Map<String, Object> calculateOdds(UUID raceId, int trials) {
+        if (trials < 1 || trials > MAX_TRIALS) {
+            throw new IllegalArgumentException("Trials must be between 1 and " + MAX_TRIALS);
+        }
+        RaceResponseDto race = gameLookupService.findRace(raceId)
+                .orElseThrow(() -> new IllegalArgumentException("Race not found"));
+        if (Boolean.TRUE.equals(race.isCompleted())) {
+            throw new IllegalStateException("Race already completed");
+        }
+
+        List<Horse> field = readOnlyTransaction.execute(status -> raceSimulationService.getRecommendedHorses(
+                race.minLevel(), race.maxLevel(), race.maxParticipants()));
+        if (field.size() < 2) {
+            throw new IllegalArgumentException("Race needs at least 2 participants");
+        }
+
+        RaceScoringKernel kernel = RaceScoringKernel.of(field);
+        double[] strength = new double[kernel.size()];
+        for (int i = 0; i < strength.length; i++) {
+            strength[i] = kernel.strength(i);
+        }
+
+        long[][] counts = runTrials(strength, trials, gameRandom.newSplittable());
+        long[] wins = counts[0];
+        long[] places = counts[1];
+
+        List<Map<String, Object>> horses = new ArrayList<>(field.size());
+        for (int i = 0; i < field.size(); i++) {
+            Horse horse = field.get(i);
+            double winProbability = (double) wins[i] / trials;
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("horseId", horse.getId());
+            entry.put("name", horse.getName());
+            entry.put("winProbability", winProbability);
+            entry.put("placeProbability", (double) places[i] / trials);
+            entry.put("fairOdds", winProbability > 0 ? 1.0 / winProbability : null);
+            horses.add(entry);
+        }
+        horses.sort((a, b) -> Double.compare((double) b.get("winProbability"), (double) a.get("winProbability")));
+
+        return Map.of(
+            "raceId", race.id(),
+            "trials", trials,
+            "placePositions", Math.min(PLACE_POSITIONS, field.size()),
+            "horses", horses
+        );
+    }
+
+    /**
+     * Runs the trials in fixed-size chunks across the common fork-join pool.
+     * Each chunk gets its own split of the generator so no state is shared.
+     *
+     * @return {@code [wins, places]} counts indexed like {@code strength}
+     */
+    static long[][] runTrials(double[] strength, int trials, SplittableRandom seed) {
+        int chunks = (trials + TRIALS_PER_CHUNK - 1) / TRIALS_PER_CHUNK;
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = seed.split();
+        }
+
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> {
+                    int from = c * TRIALS_PER_CHUNK;
+                    int to = Math.min(trials, from + TRIALS_PER_CHUNK);
+                    return runChunk(strength, to - from, randoms[c]);
+                })
+                .reduce(RaceOddsService::merge)
+                .orElseThrow();
+    }
+
+    private static long[][] runChunk(double[] strength, int trials, SplittableRandom random) {
+        int n = strength.length;
+        int placeCount = Math.min(PLACE_POSITIONS, n);
+        long[] wins = new long[n];
+        long[] places = new long[n];
+        int[] top = new int[placeCount];
+        double[] topScore = new double[placeCount];
+
+        for (int t = 0; t < trials; t++) {
+            Arrays.fill(topScore, Double.NEGATIVE_INFINITY);
+            for (int i = 0; i < n; i++) {
+                double score = RaceScoringKernel.roll(strength[i], random);
+                if (score > topScore[placeCount - 1]) {
+                    int slot = placeCount - 1;
+                    while (slot > 0 && score > topScore[slot - 1]) {
+                        topScore[slot] = topScore[slot - 1];
+                        top[slot] = top[slot - 1];
+                        slot--;
+                    }
+                    topScore[slot] = score;
+                    top[slot] = i;
+                }
+            }
+            wins[top[0]]++;
+            for (int p = 0; p < placeCount; p++) {
+                places[top[p]]++;
+            }
+        }
+        return new long[][] {wins, places};
+    }
+
+    private static long[][] merge(long[][] a, long[][] b) {
+        for (int k = 0; k < a.length; k++) {
+            for (int i = 0; i < a[k].length; i++) {
+                a[k][i] += b[k][i];
+            }
+        }
+        return a;
+    }
+}
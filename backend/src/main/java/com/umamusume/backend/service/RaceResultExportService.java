@@ -0,0 +1,96 @@
+package com.umamusume.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umamusume.backend.datasource.ReplicaRouting;
+import com.umamusume.backend.dto.RaceResultResponseDto;
+import com.umamusume.backend.repository.RaceResultRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes race results straight from a database cursor to the response, one
+ * row at a time, as either NDJSON or a JSON array.
+ */
+@Service
+public class RaceResultExportService {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final RaceResultRepository raceResultRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public RaceResultExportService(RaceResultRepository raceResultRepository,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.raceResultRepository = raceResultRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody raceResults(UUID raceId, boolean ndjson) {
+        return stream(() -> raceResultRepository.streamByRaceId(raceId), ndjson);
+    }
+
+    public StreamingResponseBody horseResults(UUID horseId, boolean ndjson) {
+        return stream(() -> raceResultRepository.streamByHorseId(horseId), ndjson);
+    }
+
+    /*
+     * The body runs on an async thread after the controller returns, so it opens
+     * its own transaction for the cursor, and re-applies the request's
+     * primary-read flag there since that thread-local does not carry over.
+     */
+    private StreamingResponseBody stream(Supplier<Stream<RaceResultResponseDto>> rows, boolean ndjson) {
+        boolean primaryForced = ReplicaRouting.isPrimaryForced();
+        return out -> {
+            if (primaryForced) {
+                ReplicaRouting.onPrimary(() -> write(rows, ndjson, out));
+            } else {
+                write(rows, ndjson, out);
+            }
+        };
+    }
+
+    private void write(Supplier<Stream<RaceResultResponseDto>> rows, boolean ndjson, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<RaceResultResponseDto> stream = rows.get();
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+
+                int written = 0;
+                Iterator<RaceResultResponseDto> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    generator.writeObject(iterator.next());
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                    if (++written % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                }
+
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
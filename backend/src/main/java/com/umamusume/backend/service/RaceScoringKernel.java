@@ -0,0 +1,182 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.entity.Horse;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Primitive implementation of the race model. Horse stats are held as
+ * struct-of-arrays and the finishing order is an index sort over a
+ * {@code double[]}, so scoring a loaded field allocates nothing. A kernel can
+ * be reloaded and rerun for repeated or what-if simulations.
+ */
+public final class RaceScoringKernel {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    final int[] speed;
+    final int[] stamina;
+    final int[] power;
+    final int[] guts;
+    final int[] intelligence;
+    final int[] level;
+    final int[] experience;
+
+    private final double[] strength;
+    private final double[] performance;
+    private final int[] order;
+    private int size;
+
+    public RaceScoringKernel(int capacity) {
+        this.speed = new int[capacity];
+        this.stamina = new int[capacity];
+        this.power = new int[capacity];
+        this.guts = new int[capacity];
+        this.intelligence = new int[capacity];
+        this.level = new int[capacity];
+        this.experience = new int[capacity];
+        this.strength = new double[capacity];
+        this.performance = new double[capacity];
+        this.order = new int[capacity];
+    }
+
+    public static RaceScoringKernel of(List<Horse> horses) {
+        RaceScoringKernel kernel = new RaceScoringKernel(horses.size());
+        kernel.load(horses);
+        return kernel;
+    }
+
+    /**
+     * Copies the horses' stats into the arrays; index {@code i} refers to {@code horses.get(i)}.
+     */
+    public void load(List<Horse> horses) {
+        if (horses.size() > speed.length) {
+            throw new IllegalArgumentException("Field of " + horses.size() + " exceeds kernel capacity " + speed.length);
+        }
+        size = horses.size();
+        for (int i = 0; i < size; i++) {
+            Horse horse = horses.get(i);
+            speed[i] = horse.getSpeed();
+            stamina[i] = horse.getStamina();
+            power[i] = horse.getPower();
+            guts[i] = horse.getGuts();
+            intelligence[i] = horse.getIntelligence();
+            level[i] = horse.getLevel();
+            experience[i] = horse.getExperience();
+        }
+        computeStrength();
+    }
+
+    /**
+     * Scores every horse once and sorts the finishing order, best first.
+     * Ties keep input order, so a seeded generator always yields the same result.
+     */
+    public void run(RandomGenerator random) {
+        for (int i = 0; i < size; i++) {
+            performance[i] = roll(strength[i], random);
+            order[i] = i;
+        }
+        sortByPerformance(0, size - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Index of the horse finishing at the given 0-based position after {@link #run}.
+     */
+    public int finisher(int position) {
+        return order[position];
+    }
+
+    public double performance(int horse) {
+        return performance[horse];
+    }
+
+    public double strength(int horse) {
+        return strength[horse];
+    }
+
+    /**
+     * Deterministic part of the model: weighted stats (as {@link Horse#getRacePerformance()})
+     * plus level and diminishing experience bonuses.
+     */
+    public static double baseStrength(int speed, int stamina, int power, int guts, int intelligence,
+                                      int level, int experience) {
+        double basePerformance = speed * 0.3 + stamina * 0.25 + power * 0.2 + guts * 0.15 + intelligence * 0.1;
+        double levelBonus = level * 0.1;
+        double expBonus = Math.log(experience + 1) * 0.05;
+        return basePerformance + levelBonus + expBonus;
+    }
+
+    /**
+     * Random part of the model: ±10% form, then 0.7-1.3 race-day luck.
+     */
+    public static double roll(double strength, RandomGenerator random) {
+        double form = 0.9 + random.nextDouble() * 0.2;
+        double luck = 0.7 + random.nextDouble() * 0.6;
+        return strength * form * luck;
+    }
+
+    private void computeStrength() {
+        for (int i = 0; i < size; i++) {
+            strength[i] = baseStrength(speed[i], stamina[i], power[i], guts[i], intelligence[i], level[i], experience[i]);
+        }
+    }
+
+    // Quicksort on indices, recursing into the smaller side so stack depth stays O(log n)
+    private void sortByPerformance(int lo, int hi) {
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            int mid = (lo + hi) >>> 1;
+            if (before(order[mid], order[lo])) swap(mid, lo);
+            if (before(order[hi], order[lo])) swap(hi, lo);
+            if (before(order[hi], order[mid])) swap(hi, mid);
+            int pivot = order[mid];
+
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (before(order[i], pivot)) i++;
+                while (before(pivot, order[j])) j--;
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            if (j - lo < hi - i) {
+                sortByPerformance(lo, j);
+                lo = i;
+            } else {
+                sortByPerformance(i, hi);
+                hi = j;
+            }
+        }
+
+        for (int i = lo + 1; i <= hi; i++) {
+            int current = order[i];
+            int j = i - 1;
+            while (j >= lo && before(current, order[j])) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    // Higher performance first; equal scores fall back to input order
+    private boolean before(int a, int b) {
+        double pa = performance[a];
+        double pb = performance[b];
+        return pa > pb || (pa == pb && a < b);
+    }
+
+    private void swap(int a, int b) {
+        int tmp = order[a];
+        order[a] = order[b];
+        order[b] = tmp;
+    }
+}
@@ -0,0 +1,150 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.dto.RaceResultResponseDto;
+import com.umamusume.backend.dto.SimulationJobDto;
+import com.umamusume.backend.entity.SimulationJob;
+import com.umamusume.backend.repository.RaceResultRepository;
+import com.umamusume.backend.repository.SimulationJobRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Runs race simulations off the request thread. Jobs are queued on a bounded
+ * executor so simulation concurrency is sized independently of Tomcat's pool.
+ * Job status is kept in the simulation_jobs table, so a poll can land on any
+ * instance. A job whose instance stops before it finishes is marked FAILED
+ * once it has been unfinished for longer than the job timeout; its race is
+ * either untouched or fully simulated, since each simulation is one
+ * transaction. Finished jobs are purged once they pass the retention period.
+ */
+@Service
+public class RaceSimulationJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(RaceSimulationJobService.class);
+
+    private final RaceSimulationService raceSimulationService;
+    private final SimulationJobRepository jobRepository;
+    private final RaceResultRepository raceResultRepository;
+    private final OptimisticRetry optimisticRetry;
+    private final TransactionTemplate transaction;
+    private final ThreadPoolExecutor executor;
+    private final Duration jobRetention;
+    private final Duration jobTimeout;
+
+    public RaceSimulationJobService(RaceSimulationService raceSimulationService,
+                                    SimulationJobRepository jobRepository,
+                                    RaceResultRepository raceResultRepository,
+                                    OptimisticRetry optimisticRetry,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${game.simulation.workers:4}") int workers,
+                                    @Value("${game.simulation.queue-capacity:1000}") int queueCapacity,
+                                    @Value("${game.simulation.job-retention:15m}") Duration jobRetention,
+                                    @Value("${game.simulation.job-timeout:5m}") Duration jobTimeout) {
+        this.raceSimulationService = raceSimulationService;
+        this.jobRepository = jobRepository;
+        this.raceResultRepository = raceResultRepository;
+        this.optimisticRetry = optimisticRetry;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.jobRetention = jobRetention;
+        this.jobTimeout = jobTimeout;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "race-sim-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * Queues a simulation for the given race.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public SimulationJobDto submit(UUID raceId) {
+        SimulationJob job = transaction.execute(status -> jobRepository.save(new SimulationJob(raceId)));
+        try {
+            executor.execute(() -> run(job.getId(), raceId));
+        } catch (RejectedExecutionException e) {
+            transaction.executeWithoutResult(status -> jobRepository.deleteById(job.getId()));
+            throw e;
+        }
+        return SimulationJobDto.fromEntity(job, List.of());
+    }
+
+    // Polled right after submitting; the template is not read-only, so this reads the primary, never a lagging replica
+    public Optional<SimulationJobDto> getJob(UUID jobId) {
+        return transaction.execute(status -> jobRepository.findById(jobId)
+                .map(job -> SimulationJobDto.fromEntity(job, job.getStatus() == SimulationJob.Status.COMPLETED
+                        ? results(job.getRaceId())
+                        : List.of())));
+    }
+
+    private List<RaceResultResponseDto> results(UUID raceId) {
+        try (Stream<RaceResultResponseDto> results = raceResultRepository.streamByRaceId(raceId)) {
+            return results.toList();
+        }
+    }
+
+    private void run(UUID jobId, UUID raceId) {
+        // Skipped if the timeout sweep failed it while it sat in the queue
+        Boolean claimed = transaction.execute(status -> jobRepository.findById(jobId)
+                .filter(job -> job.getStatus() == SimulationJob.Status.QUEUED)
+                .map(job -> {
+                    job.markRunning();
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(claimed)) {
+            return;
+        }
+        try {
+            optimisticRetry.run(() -> raceSimulationService.runRace(raceId));
+            update(jobId, SimulationJob::markCompleted);
+        } catch (RuntimeException e) {
+            log.warn("Simulation job {} for race {} failed", jobId, raceId, e);
+            update(jobId, job -> job.markFailed(e.getMessage()));
+        }
+    }
+
+    private void update(UUID jobId, Consumer<SimulationJob> change) {
+        transaction.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(change));
+    }
+
+    @Scheduled(fixedDelayString = "${game.simulation.cleanup-interval:PT1M}")
+    public void cleanUpJobs() {
+        OffsetDateTime now = OffsetDateTime.now();
+        Integer failed = transaction.execute(status -> jobRepository.failUnfinished(
+                now.minus(jobTimeout), now, "Not finished within " + jobTimeout + "; its instance may have stopped"));
+        if (failed != null && failed > 0) {
+            log.warn("Failed {} simulation jobs left unfinished for {}", failed, jobTimeout);
+        }
+        transaction.executeWithoutResult(status -> jobRepository.deleteOlderThan(now.minus(jobRetention)));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
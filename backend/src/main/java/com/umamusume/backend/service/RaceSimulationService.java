@@ -1,99 +1,248 @@
 package com.umamusume.backend.service;
 
+import com.umamusume.backend.dto.RaceStatRollupDto;
 import com.umamusume.backend.entity.Horse;
 import com.umamusume.backend.entity.Race;
+import com.umamusume.backend.entity.RaceEvent;
 import com.umamusume.backend.entity.RaceResult;
+import com.umamusume.backend.entity.RaceStatRollup;
+import com.umamusume.backend.entity.RaceStatRollup.Dimension;
+import com.umamusume.backend.entity.RaceSummary;
 import com.umamusume.backend.repository.HorseRepository;
+import com.umamusume.backend.repository.RaceEventRepository;
+import com.umamusume.backend.repository.RaceRepository;
 import com.umamusume.backend.repository.RaceResultRepository;
+import com.umamusume.backend.repository.RaceStatRollupRepository;
+import com.umamusume.backend.repository.RaceSummaryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 @Service
 public class RaceSimulationService {
 
+    // Prize distribution: 1st gets most, others get less
+    private static final double[] PRIZE_MULTIPLIERS = {1.0, 0.3, 0.2, 0.1, 0.05, 0.02, 0.01, 0.005};
+
     private final HorseRepository horseRepository;
     private final RaceResultRepository raceResultRepository;
+    private final RaceEventRepository raceEventRepository;
+    private final RaceRepository raceRepository;
+    private final RaceSummaryRepository raceSummaryRepository;
+    private final RaceStatRollupRepository raceStatRollupRepository;
+    private final GameRandom gameRandom;
+    private final GameCacheInvalidator cacheInvalidator;
+
+    private final Timer selectionTimer;
+    private final Timer scoringTimer;
+    private final Timer persistenceTimer;
+    private final DistributionSummary fieldSize;
+    private final DistributionSummary resultCount;
 
-    public RaceSimulationService(HorseRepository horseRepository, RaceResultRepository raceResultRepository) {
+    public RaceSimulationService(HorseRepository horseRepository,
+                                 RaceResultRepository raceResultRepository,
+                                 RaceEventRepository raceEventRepository,
+                                 RaceRepository raceRepository,
+                                 RaceSummaryRepository raceSummaryRepository,
+                                 RaceStatRollupRepository raceStatRollupRepository,
+                                 GameRandom gameRandom,
+                                 GameCacheInvalidator cacheInvalidator,
+                                 MeterRegistry meterRegistry) {
         this.horseRepository = horseRepository;
         this.raceResultRepository = raceResultRepository;
+        this.raceEventRepository = raceEventRepository;
+        this.raceRepository = raceRepository;
+        this.raceSummaryRepository = raceSummaryRepository;
+        this.raceStatRollupRepository = raceStatRollupRepository;
+        this.gameRandom = gameRandom;
+        this.cacheInvalidator = cacheInvalidator;
+
+        this.selectionTimer = phaseTimer("candidate-selection", meterRegistry);
+        this.scoringTimer = phaseTimer("scoring", meterRegistry);
+        this.persistenceTimer = phaseTimer("persistence", meterRegistry);
+        this.fieldSize = DistributionSummary.builder("game.race.participants")
+                .description("Horses selected for a race, including fields too small to run")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.resultCount = DistributionSummary.builder("game.race.results")
+                .description("Results written per simulated race")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
+    private static Timer phaseTimer(String phase, MeterRegistry meterRegistry) {
+        return Timer.builder("game.race.simulation")
+                .description("Time spent in each phase of simulating a race")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Simulates the race now. The race row stays locked until the transaction
+     * ends, so this, async jobs and the scheduler can never run one race twice.
+     */
     @Transactional
-    public List<RaceResult> simulateRace(Race race, List<Horse> participants) {
-        if (participants.size() < 2) {
-            throw new IllegalArgumentException("Race needs at least 2 participants");
+    public List<RaceResult> runRace(UUID raceId) {
+        Race race = raceRepository.lockById(raceId)
+                .orElseThrow(() -> new IllegalArgumentException("Race not found"));
+        if (race.getIsCompleted()) {
+            throw new IllegalStateException("Race already completed");
         }
 
-        List<RaceParticipant> raceParticipants = participants.stream()
-                .map(horse -> new RaceParticipant(horse, calculateRacePerformance(horse)))
-                .collect(Collectors.toList());
+        List<Horse> participants = selectField(race);
+        return completeRace(race, participants);
+    }
 
-        // Sort by performance (best first)
-        raceParticipants.sort((a, b) -> Double.compare(b.performance, a.performance));
+    /**
+     * Claims the oldest due race not locked by another instance and simulates it
+     * in the same transaction. A race that cannot field two runners is closed
+     * without results so it does not block the queue.
+     */
+    @Transactional
+    public Optional<Race> runNextDueRace(OffsetDateTime now) {
+        Optional<Race> claimed = raceRepository.lockNextDueRace(now);
+        claimed.ifPresent(race -> {
+            try {
+                List<Horse> participants = selectField(race);
+                if (participants.size() < 2) {
+                    race.setIsCompleted(true);
+                    raceRepository.save(race);
+                    cacheInvalidator.evictRace(race.getId());
+                } else {
+                    completeRace(race, participants);
+                }
+            } catch (OptimisticLockingFailureException e) {
+                throw e; // a conflict, not a broken race: retried as is
+            } catch (RuntimeException e) {
+                throw new DueRaceFailedException(race.getId(), e);
+            }
+        });
+        return claimed;
+    }
 
-        // Add some randomness to make races more exciting
-        addRandomness(raceParticipants);
+    /**
+     * Pushes back the next scheduled attempt at a race whose simulation threw,
+     * so the scheduler moves on to other due races instead of claiming the same
+     * one first on every tick. Waits for, then skips, a race another worker has
+     * since claimed and completed.
+     */
+    @Transactional
+    public void deferDueRace(UUID raceId, OffsetDateTime now, Duration backoff, Duration maxBackoff) {
+        raceRepository.lockById(raceId)
+                .filter(race -> !race.getIsCompleted())
+                .ifPresent(race -> {
+                    race.deferAfterFailure(now, backoff, maxBackoff);
+                    raceRepository.save(race);
+                });
+    }
 
-        // Re-sort after adding randomness
-        raceParticipants.sort((a, b) -> Double.compare(b.performance, a.performance));
+    /**
+     * Thrown by {@link #runNextDueRace} when simulating the claimed race fails.
+     * The claim rolls back with it, so this carries the race id to defer.
+     */
+    public static class DueRaceFailedException extends RuntimeException {
 
-        List<RaceResult> results = new ArrayList<>();
-        int position = 1;
+        private final UUID raceId;
+
+        public DueRaceFailedException(UUID raceId, Throwable cause) {
+            super("Simulation of race " + raceId + " failed", cause);
+            this.raceId = raceId;
+        }
+
+        public UUID getRaceId() {
+            return raceId;
+        }
+    }
+
+    private List<Horse> selectField(Race race) {
+        List<Horse> participants = selectionTimer.record(() -> getRecommendedHorses(race, race.getMaxParticipants()));
+        fieldSize.record(participants.size());
+        return participants;
+    }
+
+    private List<RaceResult> completeRace(Race race, List<Horse> participants) {
+        List<RaceResult> results = simulateRace(race, participants);
+
+        // Mark race as completed
+        race.setIsCompleted(true);
+        raceRepository.save(race);
+        cacheInvalidator.evictRace(race.getId());
+        // Also marks the runners in RecentWrites, so their result exports read from the primary
+        cacheInvalidator.evictHorseStats(participants.stream().map(Horse::getId).toList());
+
+        return results;
+    }
 
-        for (RaceParticipant participant : raceParticipants) {
-            Horse horse = participant.horse;
-            double raceTime = calculateRaceTime(participant.performance);
+    /**
+     * Scores the race and appends its results and race events. Only each
+     * runner's races_run is counted here, since candidate selection caps it;
+     * the rest of the horse careers, leaderboards and race statistics are
+     * derived from the events afterwards by {@link ProjectionService}.
+     */
+    @Transactional
+    public List<RaceResult> simulateRace(Race race, List<Horse> participants) {
+        // Seeded per race, so the same field replays to the same finishing order
+        List<RaceResult> results = scoringTimer.record(() -> scoreRace(race, participants, gameRandom.forRace(race)));
+
+        return persistenceTimer.record(() -> {
+            // Grouped into JDBC batches via hibernate.jdbc.batch_size / order_inserts. Flushed here
+            // so the batched INSERTs run inside the timer rather than at commit
+            List<RaceResult> saved = raceResultRepository.saveAll(results);
+            raceEventRepository.saveAllAndFlush(saved.stream().map(RaceEvent::new).toList());
+            int counted = horseRepository.countRaceStarts(participants.stream().map(Horse::getId).toList());
+            if (counted < participants.size()) {
+                // Rolls the race back; OptimisticRetry runs it again against a fresh field
+                throw new OptimisticLockingFailureException(
+                        "Race " + race.getId() + " lost " + (participants.size() - counted) + " runners to the races-run cap");
+            }
+            resultCount.record(saved.size());
+            return saved;
+        });
+    }
+
+    /**
+     * Runs the race model. Nothing is persisted and the horses are not changed;
+     * callers decide whether and how to save.
+     */
+    public List<RaceResult> scoreRace(Race race, List<Horse> participants, RandomGenerator random) {
+        if (participants.size() < 2) {
+            throw new IllegalArgumentException("Race needs at least 2 participants");
+        }
+
+        RaceScoringKernel kernel = RaceScoringKernel.of(participants);
+        kernel.run(random);
+
+        List<RaceResult> results = new ArrayList<>(kernel.size());
+
+        for (int position = 1; position <= kernel.size(); position++) {
+            int index = kernel.finisher(position - 1);
+            Horse horse = participants.get(index);
+            double performance = kernel.performance(index);
+            double raceTime = calculateRaceTime(performance);
             int earnings = calculateEarnings(position, race.getBasePrize());
-            boolean won = position == 1;
 
-            RaceResult result = new RaceResult(
+            results.add(new RaceResult(
                     race,
                     horse,
                     position,
                     earnings,
                     raceTime,
-                    participant.performance
-            );
-
-            // Update horse stats
-            horse.recordRaceResult(won, earnings);
-            horseRepository.save(horse);
-
-            results.add(raceResultRepository.save(result));
-            position++;
+                    performance
+            ));
         }
 
         return results;
     }
 
-    private double calculateRacePerformance(Horse horse) {
-        // Base performance from horse stats
-        double basePerformance = horse.getRacePerformance();
-        
-        // Add level bonus
-        double levelBonus = horse.getLevel() * 0.1;
-        
-        // Add experience bonus (diminishing returns)
-        double expBonus = Math.log(horse.getExperience() + 1) * 0.05;
-        
-        // Add some randomness (±10%)
-        double randomFactor = 0.9 + (Math.random() * 0.2);
-        
-        return (basePerformance + levelBonus + expBonus) * randomFactor;
-    }
-
-    private void addRandomness(List<RaceParticipant> participants) {
-        for (RaceParticipant participant : participants) {
-            // Add random factor that can significantly affect outcome
-            double randomFactor = 0.7 + (Math.random() * 0.6); // 0.7 to 1.3
-            participant.performance *= randomFactor;
-        }
-    }
-
     private double calculateRaceTime(double performance) {
         // Base time in seconds (simulate 1200m race)
         double baseTime = 120.0; // 2 minutes base
@@ -103,52 +252,50 @@ public class RaceSimulationService {
     }
 
     private int calculateEarnings(int position, int basePrize) {
-        // Prize distribution: 1st gets most, others get less
-        double[] prizeMultipliers = {1.0, 0.3, 0.2, 0.1, 0.05, 0.02, 0.01, 0.005};
-        int multiplierIndex = Math.min(position - 1, prizeMultipliers.length - 1);
-        return (int) (basePrize * prizeMultipliers[multiplierIndex]);
+        int multiplierIndex = Math.min(position - 1, PRIZE_MULTIPLIERS.length - 1);
+        return (int) (basePrize * PRIZE_MULTIPLIERS[multiplierIndex]);
     }
 
     public List<Horse> getRecommendedHorses(Race race, int count) {
-        // Get horses that are appropriate for this race level
-        List<Horse> allHorses = horseRepository.findAll();
-        
-        return allHorses.stream()
-                .filter(horse -> isHorseEligible(horse, race))
-                .sorted((a, b) -> Double.compare(b.getRacePerformance(), a.getRacePerformance()))
-                .limit(count)
-                .collect(Collectors.toList());
-    }
-
-    private boolean isHorseEligible(Horse horse, Race race) {
-        // Simple eligibility check - can be expanded based on race requirements
-        return horse.getLevel() >= 1 && horse.getRacesRun() < 50; // Max 50 races per horse
-    }
-
-    public Map<String, Object> getRaceStatistics(Race race) {
-        List<RaceResult> results = raceResultRepository.findByRace(race);
-        
-        if (results.isEmpty()) {
-            return Map.of("message", "No race results found");
+        return getRecommendedHorses(race.getMinLevel(), race.getMaxLevel(), count);
+    }
+
+    public List<Horse> getRecommendedHorses(int minLevel, int maxLevel, int count) {
+        // Eligibility (including the races-run cap) and ranking are resolved in HorseRepository.findRaceCandidates
+        return horseRepository.findRaceCandidates(minLevel, maxLevel, count);
+    }
+
+    public Map<String, Object> getRaceStatistics(UUID raceId) {
+        Optional<RaceSummary> summary = raceSummaryRepository.findById(raceId);
+
+        if (summary.isEmpty()) {
+            // The race-summaries projection writes the summary shortly after the race completes
+            boolean completed = raceRepository.findById(raceId).map(Race::getIsCompleted).orElse(false);
+            return Map.of("message", completed ? "Race statistics are not available yet" : "No race results found");
         }
 
+        // HashMap: the winner fields are null once the winning horse is deleted
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalParticipants", results.size());
-        stats.put("averageTime", results.stream().mapToDouble(RaceResult::getRaceTime).average().orElse(0.0));
-        stats.put("fastestTime", results.stream().mapToDouble(RaceResult::getRaceTime).min().orElse(0.0));
-        stats.put("totalPrizePool", results.stream().mapToInt(RaceResult::getEarnings).sum());
-        
+        stats.put("totalParticipants", summary.get().getParticipants());
+        stats.put("averageTime", summary.get().getAverageTime());
+        stats.put("fastestTime", summary.get().getFastestTime());
+        stats.put("slowestTime", summary.get().getSlowestTime());
+        stats.put("totalPrizePool", summary.get().getTotalPrizePool());
+        stats.put("winnerHorseId", summary.get().getWinnerHorseId());
+        stats.put("winnerName", summary.get().getWinnerName());
+
         return stats;
     }
 
-    private static class RaceParticipant {
-        final Horse horse;
-        double performance;
+    public List<RaceStatRollupDto> getRaceStatistics(Dimension dimension) {
+        return raceStatRollupRepository.findByIdDimensionOrderByIdDimensionValue(dimension).stream()
+                .map(RaceStatRollupDto::fromEntity)
+                .toList();
+    }
 
-        RaceParticipant(Horse horse, double performance) {
-            this.horse = horse;
-            this.performance = performance;
-        }
+    public Optional<RaceStatRollupDto> getRaceStatistics(Dimension dimension, String value) {
+        return raceStatRollupRepository.findById(new RaceStatRollup.Key(dimension, value))
+                .map(RaceStatRollupDto::fromEntity);
     }
 }
 
@@ -0,0 +1,157 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.entity.Race;
+import com.umamusume.backend.repository.RaceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically simulates races whose scheduled time has passed. Each worker
+ * claims one race at a time with FOR UPDATE SKIP LOCKED, so any number of
+ * backend instances can run this concurrently without double-simulating.
+ * A race whose simulation throws is backed off (doubling from
+ * {@code retry-backoff} up to {@code max-retry-backoff}) and the worker moves
+ * on, so one broken race cannot stall the rest of the queue.
+ */
+@Component
+@ConditionalOnProperty(name = "game.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledRaceRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledRaceRunner.class);
+
+    private final RaceSimulationService raceSimulationService;
+    private final RaceRepository raceRepository;
+    private final OptimisticRetry optimisticRetry;
+    private final int parallelism;
+    private final int maxRacesPerTick;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final ExecutorService workers;
+
+    private final Counter racesSimulated;
+    private final Counter raceFailures;
+    private final Timer raceLag;
+    private final Timer tickTimer;
+    private final AtomicLong backlogLagSeconds = new AtomicLong();
+
+    public ScheduledRaceRunner(RaceSimulationService raceSimulationService,
+                               RaceRepository raceRepository,
+                               OptimisticRetry optimisticRetry,
+                               MeterRegistry meterRegistry,
+                               @Value("${game.scheduler.parallelism:4}") int parallelism,
+                               @Value("${game.scheduler.max-races-per-tick:200}") int maxRacesPerTick,
+                               @Value("${game.scheduler.retry-backoff:PT30S}") Duration retryBackoff,
+                               @Value("${game.scheduler.max-retry-backoff:PT1H}") Duration maxRetryBackoff) {
+        this.raceSimulationService = raceSimulationService;
+        this.raceRepository = raceRepository;
+        this.optimisticRetry = optimisticRetry;
+        this.parallelism = parallelism;
+        this.maxRacesPerTick = maxRacesPerTick;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "race-scheduler-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.racesSimulated = Counter.builder("game.scheduler.races.simulated")
+                .description("Due races simulated by the scheduler")
+                .register(meterRegistry);
+        this.raceFailures = Counter.builder("game.scheduler.races.failed")
+                .description("Due races whose simulation threw")
+                .register(meterRegistry);
+        this.raceLag = Timer.builder("game.scheduler.race.lag")
+                .description("Delay between a race's scheduled time and its simulation")
+                .register(meterRegistry);
+        this.tickTimer = Timer.builder("game.scheduler.tick")
+                .description("Time spent draining due races per scheduler tick")
+                .register(meterRegistry);
+        Gauge.builder("game.scheduler.backlog.lag", backlogLagSeconds, AtomicLong::get)
+                .description("Age of the oldest due race still waiting to be simulated")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${game.scheduler.interval:PT10S}")
+    public void runDueRaces() {
+        OffsetDateTime now = OffsetDateTime.now();
+        AtomicInteger budget = new AtomicInteger(maxRacesPerTick);
+
+        tickTimer.record(() -> {
+            List<CompletableFuture<Void>> batch = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                batch.add(CompletableFuture.runAsync(() -> drain(now, budget), workers));
+            }
+            CompletableFuture.allOf(batch.toArray(CompletableFuture[]::new)).join();
+        });
+
+        backlogLagSeconds.set(raceRepository.findOldestDueScheduledAt(OffsetDateTime.now())
+                .map(oldest -> Duration.between(oldest, OffsetDateTime.now()).toSeconds())
+                .orElse(0L));
+    }
+
+    private void drain(OffsetDateTime now, AtomicInteger budget) {
+        while (budget.getAndDecrement() > 0) {
+            try {
+                Optional<Race> race = optimisticRetry.run(() -> raceSimulationService.runNextDueRace(now));
+                if (race.isEmpty()) {
+                    return;
+                }
+                racesSimulated.increment();
+                raceLag.record(Duration.between(race.get().getScheduledAt(), OffsetDateTime.now()));
+            } catch (RaceSimulationService.DueRaceFailedException e) {
+                // The claim rolled back; push the race back so the next claim is a different one
+                raceFailures.increment();
+                log.warn("Scheduled simulation of race {} failed, backing it off", e.getRaceId(), e.getCause());
+                defer(e.getRaceId());
+            } catch (OptimisticLockingFailureException e) {
+                // Retries exhausted; the race stays due and is claimed again
+                raceFailures.increment();
+                log.warn("Scheduled race simulation kept conflicting", e);
+            } catch (RuntimeException e) {
+                // The claim itself failed, e.g. the database is unreachable: stop until the next tick
+                raceFailures.increment();
+                log.warn("Scheduled race simulation failed", e);
+                return;
+            }
+        }
+    }
+
+    private void defer(UUID raceId) {
+        try {
+            raceSimulationService.deferDueRace(raceId, OffsetDateTime.now(), retryBackoff, maxRetryBackoff);
+        } catch (RuntimeException e) {
+            log.warn("Could not back off race {}", raceId, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,295 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.datasource.ReplicaRouting;
+import com.umamusume.backend.dto.TournamentDto;
+import com.umamusume.backend.dto.TournamentHeatResultDto;
+import com.umamusume.backend.entity.Horse;
+import com.umamusume.backend.entity.Tournament;
+import com.umamusume.backend.entity.TournamentHeatResult;
+import com.umamusume.backend.repository.HorseRepository;
+import com.umamusume.backend.repository.TournamentHeatResultRepository;
+import com.umamusume.backend.repository.TournamentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Knockout tournaments. Entrants are drawn into heats of at most
+ * {@code heatSize}; the top {@code qualifiersPerHeat} of each heat advance
+ * until the field fits into a single final. Every heat in a round is scored in
+ * parallel with {@link RaceScoringKernel}, and the round's results are written
+ * in one transaction. Heats rank horses on their stats as loaded when the
+ * tournament starts and do not change the horses' own records. The seed is
+ * drawn here rather than taken from the creator, who also picks the entrants.
+ * Tournaments live on one instance's executor; a sweep fails the ones whose
+ * instance stopped reporting progress for {@code stale-after}.
+ */
+@Service
+public class TournamentService {
+
+    private static final Logger log = LoggerFactory.getLogger(TournamentService.class);
+
+    public static final int MAX_ENTRANTS = 16_384;
+    private static final int MIN_HEAT_SIZE = 4;
+    private static final int MAX_HEAT_SIZE = 32;
+    private static final int LOAD_CHUNK = 1_000;
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentHeatResultRepository heatResultRepository;
+    private final HorseRepository horseRepository;
+    private final GameRandom gameRandom;
+    private final TransactionTemplate transaction;
+    private final ThreadPoolExecutor executor;
+    private final Timer roundTimer;
+    private final Duration staleAfter;
+
+    public TournamentService(TournamentRepository tournamentRepository,
+                             TournamentHeatResultRepository heatResultRepository,
+                             HorseRepository horseRepository,
+                             GameRandom gameRandom,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${game.tournament.workers:1}") int workers,
+                             @Value("${game.tournament.queue-capacity:16}") int queueCapacity,
+                             @Value("${game.tournament.stale-after:PT10M}") Duration staleAfter) {
+        this.tournamentRepository = tournamentRepository;
+        this.heatResultRepository = heatResultRepository;
+        this.horseRepository = horseRepository;
+        this.gameRandom = gameRandom;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.staleAfter = staleAfter;
+
+        // Only drives rounds; the heats themselves run on the common fork-join pool
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "tournament-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.roundTimer = Timer.builder("game.tournament.round")
+                .description("Time to score and persist one tournament round")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stores the tournament and queues it to run.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public TournamentDto create(String name, List<UUID> horseIds, int heatSize, int qualifiersPerHeat) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Tournament name is required");
+        }
+        if (heatSize < MIN_HEAT_SIZE || heatSize > MAX_HEAT_SIZE) {
+            throw new IllegalArgumentException("Heat size must be between " + MIN_HEAT_SIZE + " and " + MAX_HEAT_SIZE);
+        }
+        // At most half of each heat advances, so every round shrinks the field
+        if (qualifiersPerHeat < 1 || qualifiersPerHeat > heatSize / 2) {
+            throw new IllegalArgumentException("Qualifiers per heat must be between 1 and " + heatSize / 2);
+        }
+        Set<UUID> entrants = new LinkedHashSet<>(horseIds == null ? List.of() : horseIds);
+        if (entrants.size() < 2 || entrants.size() > MAX_ENTRANTS) {
+            throw new IllegalArgumentException("A tournament needs between 2 and " + MAX_ENTRANTS + " distinct horses");
+        }
+        if (entrants.contains(null)) {
+            throw new IllegalArgumentException("Horse ids must not be null");
+        }
+
+        Tournament tournament = transaction.execute(status -> {
+            if (loadHorses(entrants).size() != entrants.size()) {
+                throw new IllegalArgumentException("One or more horses not found");
+            }
+            return tournamentRepository.save(new Tournament(name, heatSize, qualifiersPerHeat,
+                    entrants.toArray(UUID[]::new), gameRandom.current().nextLong()));
+        });
+
+        try {
+            executor.execute(() -> run(tournament.getId()));
+        } catch (RejectedExecutionException e) {
+            transaction.executeWithoutResult(status -> tournamentRepository.deleteById(tournament.getId()));
+            throw e;
+        }
+        return TournamentDto.fromEntity(tournament);
+    }
+
+    // Polled while the tournament runs, so read from the primary rather than a replica that may lag its rounds
+    public Optional<TournamentDto> getTournament(UUID tournamentId) {
+        return ReplicaRouting.onPrimary(() -> tournamentRepository.findById(tournamentId).map(TournamentDto::fromEntity));
+    }
+
+    public List<TournamentHeatResultDto> getRound(UUID tournamentId, int round) {
+        return ReplicaRouting.onPrimary(() -> heatResultRepository.findRound(tournamentId, round));
+    }
+
+    // Queued work dies with its instance, so fail what nobody is running any more
+    @Scheduled(fixedDelayString = "${game.tournament.stale-check-interval:PT1M}")
+    public void failStaleTournaments() {
+        Integer failed = transaction.execute(status ->
+                tournamentRepository.failStale(OffsetDateTime.now().minus(staleAfter)));
+        if (failed != null && failed > 0) {
+            log.warn("Failed {} tournaments with no progress for {}", failed, staleAfter);
+        }
+    }
+
+    private void run(UUID tournamentId) {
+        try {
+            Tournament tournament = transaction.execute(status -> {
+                Tournament t = tournamentRepository.findById(tournamentId)
+                        .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
+                if (t.getStatus() != Tournament.Status.PENDING) {
+                    return null; // failed as stale while it waited in the queue
+                }
+                t.start();
+                return tournamentRepository.save(t);
+            });
+            if (tournament == null) {
+                return;
+            }
+
+            Map<UUID, Horse> horses = transaction.execute(status -> loadHorses(List.of(tournament.getEntrantIds())));
+            // Entrants deleted since creation simply do not start
+            List<Horse> field = new ArrayList<>();
+            for (UUID id : tournament.getEntrantIds()) {
+                Horse horse = horses.get(id);
+                if (horse != null) {
+                    field.add(horse);
+                }
+            }
+
+            SplittableRandom random = new SplittableRandom(tournament.getSeed());
+            for (int round = 1; field.size() > 1; round++) {
+                shuffle(field, random);
+                int currentRound = round;
+                List<Horse> currentField = field;
+                field = roundTimer.record(() -> runRound(tournament, currentRound, currentField, random));
+            }
+
+            Horse winner = field.isEmpty() ? null : field.get(0);
+            transaction.executeWithoutResult(status -> {
+                Tournament t = tournamentRepository.findById(tournamentId).orElseThrow();
+                t.complete(winner == null ? null : winner.getId());
+                tournamentRepository.save(t);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Tournament {} failed", tournamentId, e);
+            transaction.executeWithoutResult(status -> tournamentRepository.findById(tournamentId).ifPresent(t -> {
+                t.setStatus(Tournament.Status.FAILED);
+                tournamentRepository.save(t);
+            }));
+        }
+    }
+
+    /**
+     * Scores every heat of one round in parallel and persists the round.
+     * Returns the qualifiers, or just the winner if this round was the final.
+     */
+    private List<Horse> runRound(Tournament tournament, int round, List<Horse> field, SplittableRandom random) {
+        boolean isFinal = field.size() <= tournament.getHeatSize();
+        int qualifiersPerHeat = isFinal ? 1 : tournament.getQualifiersPerHeat();
+        List<List<Horse>> heats = drawHeats(field, isFinal ? 1 : ceilDiv(field.size(), tournament.getHeatSize()));
+
+        // Split sequentially so each heat's stream is fixed by the seed, whatever thread runs it
+        SplittableRandom[] heatRandoms = new SplittableRandom[heats.size()];
+        for (int i = 0; i < heatRandoms.length; i++) {
+            heatRandoms[i] = random.split();
+        }
+
+        List<List<TournamentHeatResult>> heatResults = IntStream.range(0, heats.size())
+                .parallel()
+                .mapToObj(heat -> runHeat(tournament, round, heat + 1, heats.get(heat), qualifiersPerHeat,
+                        heatRandoms[heat]))
+                .toList();
+
+        List<TournamentHeatResult> results = new ArrayList<>(field.size());
+        List<Horse> qualifiers = new ArrayList<>();
+        for (List<TournamentHeatResult> heat : heatResults) {
+            for (TournamentHeatResult result : heat) {
+                results.add(result);
+                if (result.getQualified()) {
+                    qualifiers.add(result.getHorse());
+                }
+            }
+        }
+
+        transaction.executeWithoutResult(status -> {
+            // Grouped into JDBC batches via hibernate.jdbc.batch_size / order_inserts
+            heatResultRepository.saveAll(results);
+            Tournament t = tournamentRepository.findById(tournament.getId()).orElseThrow();
+            t.completeRound(round);
+            tournamentRepository.save(t);
+        });
+        return qualifiers;
+    }
+
+    private static List<TournamentHeatResult> runHeat(Tournament tournament, int round, int heat, List<Horse> horses,
+                                                      int qualifiers, SplittableRandom random) {
+        RaceScoringKernel kernel = RaceScoringKernel.of(horses);
+        kernel.run(random);
+
+        List<TournamentHeatResult> results = new ArrayList<>(kernel.size());
+        for (int position = 1; position <= kernel.size(); position++) {
+            int index = kernel.finisher(position - 1);
+            results.add(new TournamentHeatResult(tournament, round, heat, horses.get(index), position,
+                    kernel.performance(index), position <= qualifiers));
+        }
+        return results;
+    }
+
+    // Deals the field round-robin so heat sizes differ by at most one
+    private static List<List<Horse>> drawHeats(List<Horse> field, int heatCount) {
+        List<List<Horse>> heats = new ArrayList<>(heatCount);
+        for (int i = 0; i < heatCount; i++) {
+            heats.add(new ArrayList<>());
+        }
+        for (int i = 0; i < field.size(); i++) {
+            heats.get(i % heatCount).add(field.get(i));
+        }
+        return heats;
+    }
+
+    private static void shuffle(List<Horse> field, SplittableRandom random) {
+        for (int i = field.size() - 1; i > 0; i--) {
+            Collections.swap(field, i, random.nextInt(i + 1));
+        }
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+
+    private Map<UUID, Horse> loadHorses(Collection<UUID> ids) {
+        List<UUID> all = List.copyOf(ids);
+        Map<UUID, Horse> horses = new HashMap<>();
+        for (int from = 0; from < all.size(); from += LOAD_CHUNK) {
+            List<UUID> chunk = all.subList(from, Math.min(all.size(), from + LOAD_CHUNK));
+            horseRepository.findAllById(chunk).forEach(horse -> horses.put(horse.getId(), horse));
+        }
+        return horses;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,31 +1,89 @@
 package com.umamusume.backend.service;
 
+import com.umamusume.backend.dto.HorseStatsDto;
 import com.umamusume.backend.entity.Horse;
 import com.umamusume.backend.repository.HorseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Service
 public class TrainingService {
 
+    private static final String[] STAT_TYPES = {"speed", "stamina", "power", "guts", "intelligence"};
+    private static final Set<String> STATS = Set.of(STAT_TYPES);
+
+    public record TrainingOrder(UUID horseId, String statType, Integer points) {}
+
     private final HorseRepository horseRepository;
+    private final GameRandom gameRandom;
+    private final GameLookupService gameLookupService;
+    private final GameCacheInvalidator cacheInvalidator;
+    private final LeaderboardService leaderboardService;
+    private final PedigreeService pedigreeService;
+    private final double maxInbreedingCoefficient;
+    private final int maxBatchSize;
 
-    public TrainingService(HorseRepository horseRepository) {
+    private final Timer trainTimer;
+    private final Timer restTimer;
+    private final Timer breedTimer;
+    private final Timer bulkTrainTimer;
+    private final Timer bulkRestTimer;
+
+    public TrainingService(HorseRepository horseRepository,
+                           GameRandom gameRandom,
+                           GameLookupService gameLookupService,
+                           GameCacheInvalidator cacheInvalidator,
+                           LeaderboardService leaderboardService,
+                           PedigreeService pedigreeService,
+                           MeterRegistry meterRegistry,
+                           @Value("${game.breeding.max-inbreeding-coefficient:0.25}") double maxInbreedingCoefficient,
+                           @Value("${game.training.max-batch-size:500}") int maxBatchSize) {
         this.horseRepository = horseRepository;
+        this.gameRandom = gameRandom;
+        this.gameLookupService = gameLookupService;
+        this.cacheInvalidator = cacheInvalidator;
+        this.leaderboardService = leaderboardService;
+        this.pedigreeService = pedigreeService;
+        this.maxInbreedingCoefficient = maxInbreedingCoefficient;
+        this.maxBatchSize = maxBatchSize;
+
+        this.trainTimer = actionTimer("train", meterRegistry);
+        this.restTimer = actionTimer("rest", meterRegistry);
+        this.breedTimer = actionTimer("breed", meterRegistry);
+        this.bulkTrainTimer = actionTimer("train-bulk", meterRegistry);
+        this.bulkRestTimer = actionTimer("rest-bulk", meterRegistry);
+    }
+
+    // Each action flushes before it returns, so the timers include the UPDATE/INSERT round trips
+    private static Timer actionTimer(String action, MeterRegistry meterRegistry) {
+        return Timer.builder("game.training")
+                .description("Time spent applying a training, rest or breeding action")
+                .tag("action", action)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Transactional
     public Map<String, Object> trainHorse(UUID horseId, String statType, int points) {
+        return trainTimer.record(() -> train(horseId, statType, points));
+    }
+
+    private Map<String, Object> train(UUID horseId, String statType, int points) {
         Horse horse = horseRepository.findById(horseId)
                 .orElseThrow(() -> new IllegalArgumentException("Horse not found"));
 
         boolean success = horse.trainStat(statType, points);
         
         if (success) {
-            horseRepository.save(horse);
+            horseRepository.saveAndFlush(horse);
+            cacheInvalidator.evictHorseStats(horseId);
+            leaderboardService.track(horse);
             return Map.of(
                 "success", true,
                 "message", "Training successful!",
@@ -43,21 +101,18 @@ public class TrainingService {
 
     @Transactional
     public Map<String, Object> restHorse(UUID horseId) {
+        return restTimer.record(() -> rest(horseId));
+    }
+
+    private Map<String, Object> rest(UUID horseId) {
         Horse horse = horseRepository.findById(horseId)
                 .orElseThrow(() -> new IllegalArgumentException("Horse not found"));
 
-        // Resting gives training points and recovers some stats
-        int trainingPointsGained = 2 + (int)(Math.random() * 3); // 2-4 points
-        horse.setTrainingPoints(horse.getTrainingPoints() + trainingPointsGained);
-
-        // Small chance to gain a random stat point
-        if (Math.random() < 0.1) { // 10% chance
-            String[] stats = {"speed", "stamina", "power", "guts", "intelligence"};
-            String randomStat = stats[(int)(Math.random() * stats.length)];
-            horse.trainStat(randomStat, 1);
-        }
+        int trainingPointsGained = applyRest(horse, gameRandom.current());
 
-        horseRepository.save(horse);
+        horseRepository.saveAndFlush(horse);
+        cacheInvalidator.evictHorseStats(horseId);
+        leaderboardService.track(horse);
 
         return Map.of(
             "success", true,
@@ -67,17 +122,141 @@ public class TrainingService {
         );
     }
 
+    /**
+     * Applies a list of training orders in one transaction: one query loads every
+     * horse, and the changed ones are written back in JDBC batches. Orders are
+     * applied in request order, so several orders for one horse stack.
+     */
+    @Transactional
+    public List<Map<String, Object>> trainHorses(List<TrainingOrder> orders) {
+        checkBatchSize(orders);
+        return bulkTrainTimer.record(() -> {
+            Map<UUID, Horse> horses = loadAll(orders.stream().map(TrainingOrder::horseId).toList());
+            Map<UUID, Horse> changed = new LinkedHashMap<>();
+            List<Map<String, Object>> outcomes = new ArrayList<>(orders.size());
+
+            for (TrainingOrder order : orders) {
+                Horse horse = horses.get(order.horseId());
+                if (horse == null) {
+                    outcomes.add(failure(order.horseId(), "Horse not found"));
+                } else if (order.statType() == null || !STATS.contains(order.statType().toLowerCase())) {
+                    // Checked up front: trainStat spends the points before rejecting an unknown stat
+                    outcomes.add(failure(order.horseId(), "Unknown stat: " + order.statType()));
+                } else if (order.points() == null || order.points() < 1) {
+                    outcomes.add(failure(order.horseId(), "Points must be positive"));
+                } else if (horse.trainStat(order.statType(), order.points())) {
+                    changed.put(horse.getId(), horse);
+                    outcomes.add(Map.of(
+                        "horseId", horse.getId(),
+                        "success", true,
+                        "message", "Training successful!",
+                        "horse", HorseStatsDto.fromEntity(horse)
+                    ));
+                } else {
+                    outcomes.add(Map.of(
+                        "horseId", horse.getId(),
+                        "success", false,
+                        "message", "Not enough training points!",
+                        "requiredPoints", order.points(),
+                        "availablePoints", horse.getTrainingPoints()
+                    ));
+                }
+            }
+
+            persist(changed.values());
+            return outcomes;
+        });
+    }
+
+    @Transactional
+    public List<Map<String, Object>> restHorses(List<UUID> horseIds) {
+        checkBatchSize(horseIds);
+        return bulkRestTimer.record(() -> {
+            Map<UUID, Horse> horses = loadAll(horseIds);
+            Map<UUID, Horse> changed = new LinkedHashMap<>();
+            List<Map<String, Object>> outcomes = new ArrayList<>(horseIds.size());
+            RandomGenerator random = gameRandom.current();
+
+            for (UUID horseId : horseIds) {
+                Horse horse = horses.get(horseId);
+                if (horse == null) {
+                    outcomes.add(failure(horseId, "Horse not found"));
+                    continue;
+                }
+                int trainingPointsGained = applyRest(horse, random);
+                changed.put(horse.getId(), horse);
+                outcomes.add(Map.of(
+                    "horseId", horseId,
+                    "success", true,
+                    "message", "Horse rested and recovered!",
+                    "trainingPointsGained", trainingPointsGained,
+                    "horse", HorseStatsDto.fromEntity(horse)
+                ));
+            }
+
+            persist(changed.values());
+            return outcomes;
+        });
+    }
+
+    private Map<UUID, Horse> loadAll(List<UUID> horseIds) {
+        if (horseIds.contains(null)) {
+            throw new IllegalArgumentException("Every item needs a horseId");
+        }
+        Map<UUID, Horse> horses = new HashMap<>();
+        horseRepository.findAllById(new HashSet<>(horseIds)).forEach(horse -> horses.put(horse.getId(), horse));
+        return horses;
+    }
+
+    private void persist(Collection<Horse> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        // Grouped into JDBC batches via hibernate.jdbc.batch_size / order_updates
+        horseRepository.saveAllAndFlush(changed);
+        cacheInvalidator.evictHorseStats(changed.stream().map(Horse::getId).toList());
+        leaderboardService.track(changed);
+    }
+
+    private void checkBatchSize(Collection<?> items) {
+        if (items == null || items.isEmpty() || items.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + maxBatchSize + " items");
+        }
+    }
+
+    private static Map<String, Object> failure(UUID horseId, String message) {
+        return Map.of(
+            "horseId", horseId,
+            "success", false,
+            "message", message
+        );
+    }
+
+    // Returns the training points gained
+    private static int applyRest(Horse horse, RandomGenerator random) {
+        // Resting gives training points and recovers some stats
+        int trainingPointsGained = 2 + (int)(random.nextDouble() * 3); // 2-4 points
+        horse.setTrainingPoints(horse.getTrainingPoints() + trainingPointsGained);
+
+        // Small chance to gain a random stat point
+        if (random.nextDouble() < 0.1) { // 10% chance
+            String randomStat = STAT_TYPES[(int)(random.nextDouble() * STAT_TYPES.length)];
+            horse.trainStat(randomStat, 1);
+        }
+        return trainingPointsGained;
+    }
+
     public Map<String, Object> getTrainingRecommendations(UUID horseId) {
-        Horse horse = horseRepository.findById(horseId)
+        HorseStatsDto horse = gameLookupService.findHorseStats(horseId)
                 .orElseThrow(() -> new IllegalArgumentException("Horse not found"));
 
         // Find the lowest stat to recommend training
         Map<String, Integer> stats = Map.of(
-            "speed", horse.getSpeed(),
-            "stamina", horse.getStamina(),
-            "power", horse.getPower(),
-            "guts", horse.getGuts(),
-            "intelligence", horse.getIntelligence()
+            "speed", horse.speed(),
+            "stamina", horse.stamina(),
+            "power", horse.power(),
+            "guts", horse.guts(),
+            "intelligence", horse.intelligence()
         );
 
         String lowestStat = stats.entrySet().stream()
@@ -92,13 +271,17 @@ public class TrainingService {
             "recommendedStat", lowestStat,
             "currentValue", currentLowest,
             "pointsNeeded", pointsNeeded,
-            "trainingPointsAvailable", horse.getTrainingPoints(),
-            "canTrain", horse.getTrainingPoints() >= 1
+            "trainingPointsAvailable", horse.trainingPoints(),
+            "canTrain", horse.trainingPoints() >= 1
         );
     }
 
     @Transactional
     public Map<String, Object> breedHorses(UUID sireId, UUID damId, String foalName, UUID ownerId) {
+        return breedTimer.record(() -> breed(sireId, damId, foalName, ownerId));
+    }
+
+    private Map<String, Object> breed(UUID sireId, UUID damId, String foalName, UUID ownerId) {
         Horse sire = horseRepository.findById(sireId)
                 .orElseThrow(() -> new IllegalArgumentException("Sire not found"));
         Horse dam = horseRepository.findById(damId)
@@ -119,15 +302,29 @@ public class TrainingService {
             );
         }
 
+        double inbreeding = pedigreeService.inbreedingCoefficient(sireId, damId);
+        if (inbreeding > maxInbreedingCoefficient) {
+            return Map.of(
+                "success", false,
+                "message", "Sire and dam are too closely related to breed",
+                "inbreedingCoefficient", inbreeding,
+                "maxInbreedingCoefficient", maxInbreedingCoefficient
+            );
+        }
+
         // Create the foal
-        Horse foal = new Horse(foalName, sire.getOwner(), sire, dam);
+        Horse foal = new Horse(foalName, sire.getOwner(), sire, dam, gameRandom.current());
         foal.setOwner(sire.getOwner()); // Foal belongs to sire's owner
-        horseRepository.save(foal);
+        horseRepository.saveAndFlush(foal);
+        // Nothing cached yet, but the eviction tells other nodes to rank the foal
+        cacheInvalidator.evictHorseStats(foal.getId());
+        leaderboardService.track(foal);
 
         return Map.of(
             "success", true,
             "message", "Breeding successful! New foal created.",
-            "foal", foal
+            "foal", foal,
+            "inbreedingCoefficient", inbreeding
         );
     }
 }
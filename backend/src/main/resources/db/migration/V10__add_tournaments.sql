@@ -0,0 +1,30 @@
+-- V10: Knockout tournaments run as rounds of heats; entrants are fixed at creation
+CREATE TABLE IF NOT EXISTS tournaments (
+    id UUID PRIMARY KEY,
+    name VARCHAR(128) NOT NULL,
+    heat_size INTEGER NOT NULL,
+    qualifiers_per_heat INTEGER NOT NULL,
+    entrant_ids UUID[] NOT NULL,
+    status VARCHAR(16) NOT NULL DEFAULT 'PENDING',
+    rounds_completed INTEGER NOT NULL DEFAULT 0,
+    seed BIGINT NOT NULL,
+    winner_horse_id UUID REFERENCES horses(id) ON DELETE SET NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    completed_at TIMESTAMPTZ
+);
+
+CREATE TABLE IF NOT EXISTS tournament_heat_results (
+    id UUID PRIMARY KEY,
+    tournament_id UUID NOT NULL REFERENCES tournaments(id) ON DELETE CASCADE,
+    round INTEGER NOT NULL,
+    heat INTEGER NOT NULL,
+    horse_id UUID NOT NULL REFERENCES horses(id),
+    position INTEGER NOT NULL,
+    performance_score DOUBLE PRECISION NOT NULL,
+    qualified BOOLEAN NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_tournament_heat_results_round
+  ON tournament_heat_results (tournament_id, round, heat, position);
+CREATE INDEX IF NOT EXISTS idx_tournament_heat_results_horse_id ON tournament_heat_results (horse_id);
@@ -0,0 +1,73 @@
+-- V11: Append-only race event log; horse careers and race summaries become projections of it
+
+-- Allocated in blocks of 50 by Hibernate's pooled optimizer, so event inserts batch
+CREATE SEQUENCE IF NOT EXISTS race_events_id_seq START WITH 1 INCREMENT BY 50;
+
+-- One row per finished horse. Race and horse attributes are copied in, so the log
+-- replays on its own even after races or horses are deleted. tx_id orders events by
+-- writing transaction: projections only read transactions older than every running
+-- one, so an event can never appear behind a checkpoint that already passed it.
+CREATE TABLE IF NOT EXISTS race_events (
+    id BIGINT PRIMARY KEY DEFAULT nextval('race_events_id_seq'),
+    tx_id XID8 NOT NULL DEFAULT pg_current_xact_id(),
+    race_id UUID NOT NULL,
+    race_seed BIGINT,
+    race_type VARCHAR(32) NOT NULL,
+    distance INTEGER NOT NULL,
+    track_condition VARCHAR(32) NOT NULL,
+    base_prize INTEGER NOT NULL,
+    horse_id UUID NOT NULL,
+    horse_name VARCHAR(128) NOT NULL,
+    -- Inputs at race time; NULL for results recorded before the log existed
+    speed INTEGER,
+    stamina INTEGER,
+    power INTEGER,
+    guts INTEGER,
+    intelligence INTEGER,
+    level INTEGER,
+    position INTEGER NOT NULL,
+    earnings INTEGER NOT NULL,
+    race_time DOUBLE PRECISION NOT NULL,
+    performance_score DOUBLE PRECISION NOT NULL,
+    recorded_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_race_events_position ON race_events(tx_id, id);
+CREATE INDEX IF NOT EXISTS idx_race_events_horse ON race_events(horse_id);
+CREATE INDEX IF NOT EXISTS idx_race_events_race ON race_events(race_id);
+
+-- How far each projection has read. tx_id is the xid8 of the last applied event, as a number
+CREATE TABLE IF NOT EXISTS projection_checkpoints (
+    projection VARCHAR(64) PRIMARY KEY,
+    tx_id BIGINT NOT NULL,
+    event_id BIGINT NOT NULL,
+    rebuilding BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Experience needed to go from level 1 to the given level (100 per level, rising by 100 each time)
+CREATE OR REPLACE FUNCTION horse_level_experience(level INTEGER) RETURNS BIGINT
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT 50::BIGINT * level * (level - 1)
+$$;
+
+-- Level reached with the given lifetime experience; the closed form of Horse.addExperience
+CREATE OR REPLACE FUNCTION horse_level(total_experience BIGINT) RETURNS INTEGER
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT FLOOR((5 + SQRT((25 + 2 * total_experience)::NUMERIC)) / 10)::INTEGER
+$$;
+
+-- Backfill from races simulated before this migration
+INSERT INTO race_events (race_id, race_seed, race_type, distance, track_condition, base_prize,
+                         horse_id, horse_name, position, earnings, race_time, performance_score, recorded_at)
+SELECT rr.race_id, r.seed, r.race_type, r.distance, r.track_condition, r.base_prize,
+       rr.horse_id, h.name, rr.position, rr.earnings, rr.race_time, rr.performance_score, rr.created_at
+FROM race_results rr
+JOIN races r ON r.id = rr.race_id
+JOIN horses h ON h.id = rr.horse_id
+ORDER BY rr.created_at, rr.race_id, rr.position;
+
+-- The backfilled results are already reflected in horses and race_summaries
+INSERT INTO projection_checkpoints (projection, tx_id, event_id)
+SELECT p.projection, pg_current_xact_id()::TEXT::BIGINT, COALESCE((SELECT MAX(id) FROM race_events), 0)
+FROM (VALUES ('horse-careers'), ('race-summaries')) AS p(projection);
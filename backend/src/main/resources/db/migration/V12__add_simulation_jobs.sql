@@ -0,0 +1,13 @@
+-- V12: Async race simulation jobs, so any instance behind the load balancer can answer a status poll
+CREATE TABLE IF NOT EXISTS simulation_jobs (
+    id UUID PRIMARY KEY,
+    race_id UUID NOT NULL REFERENCES races(id) ON DELETE CASCADE,
+    status VARCHAR(16) NOT NULL DEFAULT 'QUEUED',
+    error VARCHAR(512),
+    submitted_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    finished_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_simulation_jobs_race_id ON simulation_jobs (race_id);
+-- Jobs are purged game.simulation.job-retention after they were submitted
+CREATE INDEX IF NOT EXISTS idx_simulation_jobs_submitted_at ON simulation_jobs (submitted_at);
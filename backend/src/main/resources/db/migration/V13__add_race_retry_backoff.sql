@@ -0,0 +1,4 @@
+-- V13: Back off a scheduled race whose simulation keeps failing, so it cannot hold the head of the due queue
+ALTER TABLE races
+  ADD COLUMN failed_attempts INTEGER NOT NULL DEFAULT 0,
+  ADD COLUMN next_attempt_at TIMESTAMPTZ;
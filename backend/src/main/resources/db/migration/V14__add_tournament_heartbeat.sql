@@ -0,0 +1,5 @@
+-- V14: Last sign of life from the instance running a tournament, so one orphaned by a dead instance can be failed
+ALTER TABLE tournaments ADD COLUMN heartbeat_at TIMESTAMPTZ;
+
+-- The stale-tournament sweep only looks at unfinished tournaments
+CREATE INDEX IF NOT EXISTS idx_tournaments_unfinished ON tournaments (status) WHERE status IN ('PENDING', 'RUNNING');
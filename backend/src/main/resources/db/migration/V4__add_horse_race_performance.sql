@@ -0,0 +1,10 @@
+-- V4: Store the weighted race performance (see Horse.getRacePerformance) so race
+-- candidate selection can filter and order in SQL instead of loading every horse.
+ALTER TABLE horses
+  ADD COLUMN race_performance DOUBLE PRECISION
+    GENERATED ALWAYS AS (speed * 0.3 + stamina * 0.25 + power * 0.2 + guts * 0.15 + intelligence * 0.1) STORED;
+
+-- Only horses under the races-run cap are ever candidates, so keep the index partial
+CREATE INDEX IF NOT EXISTS idx_horses_race_candidates
+  ON horses (race_performance DESC, level)
+  WHERE races_run < 50;
@@ -0,0 +1,2 @@
+-- V5: Per-race RNG seed so a simulation can be replayed deterministically
+ALTER TABLE races ADD COLUMN seed BIGINT;
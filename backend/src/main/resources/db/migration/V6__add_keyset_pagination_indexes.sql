@@ -0,0 +1,4 @@
+-- V6: Support keyset pagination ordered by (created_at, id) on the list endpoints
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_horses_created_at_id ON horses (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_races_created_at_id ON races (created_at, id);
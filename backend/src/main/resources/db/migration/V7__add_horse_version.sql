@@ -0,0 +1,2 @@
+-- V7: Optimistic locking for concurrent training, resting and racing of the same horse
+ALTER TABLE horses ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,59 @@
+-- V8: Race statistics computed once at simulation time instead of on every read
+
+-- One row per simulated race
+CREATE TABLE IF NOT EXISTS race_summaries (
+    race_id UUID PRIMARY KEY REFERENCES races(id) ON DELETE CASCADE,
+    participants INTEGER NOT NULL,
+    average_time DOUBLE PRECISION NOT NULL,
+    fastest_time DOUBLE PRECISION NOT NULL,
+    slowest_time DOUBLE PRECISION NOT NULL,
+    total_prize_pool BIGINT NOT NULL,
+    winner_horse_id UUID REFERENCES horses(id) ON DELETE SET NULL,
+    winner_name VARCHAR(128),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Running totals per race type, distance and track condition, bumped by each new summary
+CREATE TABLE IF NOT EXISTS race_stat_rollups (
+    dimension VARCHAR(32) NOT NULL,
+    dimension_value VARCHAR(64) NOT NULL,
+    races BIGINT NOT NULL,
+    participants BIGINT NOT NULL,
+    total_time DOUBLE PRECISION NOT NULL,
+    fastest_time DOUBLE PRECISION NOT NULL,
+    slowest_time DOUBLE PRECISION NOT NULL,
+    total_prize_pool BIGINT NOT NULL,
+    PRIMARY KEY (dimension, dimension_value)
+);
+
+-- Backfill from races simulated before this migration
+INSERT INTO race_summaries (race_id, participants, average_time, fastest_time, slowest_time,
+                            total_prize_pool, winner_horse_id, winner_name, created_at)
+SELECT s.race_id, s.participants, s.average_time, s.fastest_time, s.slowest_time,
+       s.total_prize_pool, w.horse_id, h.name, s.created_at
+FROM (
+    SELECT race_id,
+           COUNT(*) AS participants,
+           AVG(race_time) AS average_time,
+           MIN(race_time) AS fastest_time,
+           MAX(race_time) AS slowest_time,
+           SUM(earnings) AS total_prize_pool,
+           MAX(created_at) AS created_at
+    FROM race_results
+    GROUP BY race_id
+) s
+LEFT JOIN race_results w ON w.race_id = s.race_id AND w.position = 1
+LEFT JOIN horses h ON h.id = w.horse_id;
+
+INSERT INTO race_stat_rollups (dimension, dimension_value, races, participants, total_time,
+                               fastest_time, slowest_time, total_prize_pool)
+SELECT dimension, dimension_value, COUNT(*), SUM(s.participants), SUM(s.average_time * s.participants),
+       MIN(s.fastest_time), MAX(s.slowest_time), SUM(s.total_prize_pool)
+FROM race_summaries s
+JOIN races r ON r.id = s.race_id
+CROSS JOIN LATERAL (VALUES
+    ('RACE_TYPE', r.race_type),
+    ('DISTANCE', r.distance::text),
+    ('TRACK_CONDITION', r.track_condition)
+) AS d(dimension, dimension_value)
+GROUP BY dimension, dimension_value;
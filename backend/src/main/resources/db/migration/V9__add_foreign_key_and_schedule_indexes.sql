@@ -0,0 +1,23 @@
+-- V9: Secondary indexes for the remaining repository lookups, which all sequential-scanned
+
+-- HorseRepository.findByOwnerId / findResponsesByOwnerId (ordered by created_at, id)
+CREATE INDEX IF NOT EXISTS idx_horses_owner_id ON horses (owner_id, created_at, id);
+
+-- Lineage lookups, and the FK checks Postgres runs when a horse is deleted
+CREATE INDEX IF NOT EXISTS idx_horses_sire_id ON horses (sire_id) WHERE sire_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_horses_dam_id ON horses (dam_id) WHERE dam_id IS NOT NULL;
+
+-- RaceResultRepository.findByRaceId / streamByRaceId (ordered by position)
+CREATE INDEX IF NOT EXISTS idx_race_results_race_id ON race_results (race_id, position);
+
+-- RaceResultRepository.findByHorseId / streamByHorseId (newest first)
+CREATE INDEX IF NOT EXISTS idx_race_results_horse_id ON race_results (horse_id, created_at DESC);
+
+-- RaceRepository.findByScheduledAtAfter / findByScheduledAtBetween
+CREATE INDEX IF NOT EXISTS idx_races_scheduled_at ON races (scheduled_at);
+
+-- Upcoming races and the scheduler's due-race queue only ever look at open races
+CREATE INDEX IF NOT EXISTS idx_races_open_scheduled_at ON races (scheduled_at) WHERE is_completed = FALSE;
+
+-- FK check when a horse is deleted (winner_horse_id is ON DELETE SET NULL)
+CREATE INDEX IF NOT EXISTS idx_race_summaries_winner ON race_summaries (winner_horse_id) WHERE winner_horse_id IS NOT NULL;
@@ -0,0 +1,48 @@
+package com.umamusume.backend;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base for tests that need the real schema: the full application context
+ * against a Postgres 16 container migrated by Flyway and validated by
+ * Hibernate. One container is shared by every test class and stopped with
+ * the JVM. Background runners are off so tests control what runs, and the
+ * SQL Hibernate sends is recorded by {@link RecordingStatementInspector} and
+ * counted by Hibernate statistics.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.umamusume.backend.RecordingStatementInspector",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "game.scheduler.enabled=false",
+        "game.projections.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static PostgreSQLContainer<?> postgres;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> postgres().getJdbcUrl());
+        registry.add("spring.datasource.username", () -> postgres().getUsername());
+        registry.add("spring.datasource.password", () -> postgres().getPassword());
+    }
+
+    // Started lazily, so classes skipped for lack of Docker never touch it
+    private static synchronized PostgreSQLContainer<?> postgres() {
+        if (postgres == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("umamusume")
+                    .withUsername("umamusume")
+                    .withPassword("umamusume");
+            postgres.start();
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,28 @@
+package com.umamusume.backend;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every SQL string Hibernate prepares on the calling thread, so a test
+ * can see exactly what a repository method sent.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> recorded = ThreadLocal.withInitial(ArrayList::new);
+
+    /** Returns the statements recorded on this thread since the last call, and forgets them. */
+    public static List<String> drain() {
+        List<String> statements = List.copyOf(recorded.get());
+        recorded.get().clear();
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        recorded.get().add(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,115 @@
+package com.umamusume.backend.controller;
+
+import com.umamusume.backend.PostgresIntegrationTest;
+import com.umamusume.backend.dto.CursorPage;
+import com.umamusume.backend.dto.HorseResponseDto;
+import com.umamusume.backend.dto.PageCursor;
+import com.umamusume.backend.entity.Horse;
+import com.umamusume.backend.entity.User;
+import com.umamusume.backend.repository.HorseRepository;
+import com.umamusume.backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 owner loading: listing horses must prepare the same
+ * number of statements however many horses, and owners, are on the page.
+ */
+class HorseListingStatementCountTest extends PostgresIntegrationTest {
+
+    private static final int[] SIZES = {1, 20, 150};
+
+    @Autowired
+    private HorseController horseController;
+
+    @Autowired
+    private HorseRepository horseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listingAllHorsesPreparesOneStatementWhateverThePageSize() {
+        List<Long> counts = new ArrayList<>();
+        for (int size : SIZES) {
+            // Seek to just before the new horses, so the page holds exactly them
+            String cursor = new PageCursor(justBefore(), new UUID(0, 0)).encode();
+            createHorsesWithDistinctOwners(size);
+
+            CursorPage<HorseResponseDto> page = countStatements(counts,
+                    () -> horseController.getAllHorses(cursor, size));
+
+            assertThat(page.items()).hasSize(size);
+            assertThat(page.items()).extracting(horse -> horse.owner().id()).doesNotHaveDuplicates();
+        }
+        assertThat(counts).as("statements per page of %s horses", SIZES).containsOnly(1L);
+    }
+
+    @Test
+    void listingAnOwnersHorsesPreparesOneStatementWhateverTheirNumber() {
+        List<Long> counts = new ArrayList<>();
+        for (int size : SIZES) {
+            User owner = userRepository.save(new User("owner-" + UUID.randomUUID()));
+            List<Horse> horses = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                horses.add(new Horse("Horse " + i, owner));
+            }
+            horseRepository.saveAll(horses);
+
+            List<HorseResponseDto> listed = countStatements(counts,
+                    () -> horseController.getHorsesByOwner(owner.getId()));
+
+            assertThat(listed).hasSize(size);
+        }
+        assertThat(counts).as("statements per owner with %s horses", SIZES).containsOnly(1L);
+    }
+
+    private <T> T countStatements(List<Long> counts, Supplier<T> request) {
+        statistics.clear();
+        T result = request.get();
+        counts.add(statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private void createHorsesWithDistinctOwners(int count) {
+        List<User> owners = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            owners.add(new User("owner-" + UUID.randomUUID()));
+        }
+        userRepository.saveAll(owners);
+
+        List<Horse> horses = new ArrayList<>();
+        for (User owner : owners) {
+            horses.add(new Horse("Horse of " + owner.getUsername(), owner));
+        }
+        horseRepository.saveAll(horses);
+    }
+
+    // Postgres keeps microseconds; step back a millisecond so rounding cannot skip a new row
+    private static OffsetDateTime justBefore() {
+        return OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS).minus(1, ChronoUnit.MILLIS);
+    }
+}
@@ -0,0 +1,106 @@
+package com.umamusume.backend.controller;
+
+import com.umamusume.backend.PostgresIntegrationTest;
+import com.umamusume.backend.entity.Horse;
+import com.umamusume.backend.entity.User;
+import com.umamusume.backend.repository.HorseRepository;
+import com.umamusume.backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers one horse with concurrent train and rest requests through
+ * {@link GameController}, so conflicting writes go through the optimistic
+ * retry, and checks that no committed change was lost or applied twice.
+ */
+class TrainingConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 5;
+    private static final int STARTING_POINTS = 10;
+
+    @Autowired
+    private GameController gameController;
+
+    @Autowired
+    private HorseRepository horseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentTrainAndRestKeepEveryCommittedChange() throws Exception {
+        User owner = userRepository.save(new User("trainer-" + UUID.randomUUID()));
+        Horse horse = new Horse("Hammered", owner);
+        horse.setTrainingPoints(STARTING_POINTS);
+        horse = horseRepository.save(horse);
+        UUID horseId = horse.getId();
+        int startingStats = horse.getTotalStats();
+
+        AtomicInteger pointsGained = new AtomicInteger();
+        AtomicInteger pointsSpent = new AtomicInteger();
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rests = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                boolean trains = t % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        try {
+                            if (trains) {
+                                Map<String, Object> result = gameController
+                                        .trainHorse(horseId, new GameController.TrainHorseRequest("speed", 1))
+                                        .getBody();
+                                if (Boolean.TRUE.equals(result.get("success"))) {
+                                    pointsSpent.incrementAndGet();
+                                    committed.incrementAndGet();
+                                }
+                            } else {
+                                Map<String, Object> result = gameController.restHorse(horseId).getBody();
+                                pointsGained.addAndGet((Integer) result.get("trainingPointsGained"));
+                                rests.incrementAndGet();
+                                committed.incrementAndGet();
+                            }
+                        } catch (OptimisticLockingFailureException e) {
+                            // Retries exhausted: the call rolled back, so it changed nothing
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Horse result = horseRepository.findById(horseId).orElseThrow();
+        // A rest may also spend one point on a bonus stat, which shows up in the stat total instead
+        int bonusStats = result.getTotalStats() - startingStats - pointsSpent.get();
+        assertThat(committed.get()).isPositive();
+        assertThat(bonusStats).isBetween(0, rests.get());
+        assertThat(result.getTrainingPoints())
+                .isEqualTo(STARTING_POINTS + pointsGained.get() - pointsSpent.get() - bonusStats);
+        assertThat(result.getVersion()).isEqualTo(horse.getVersion() + committed.get());
+    }
+}
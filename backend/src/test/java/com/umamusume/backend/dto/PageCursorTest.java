@@ -0,0 +1,54 @@
+package com.umamusume.backend.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PageCursorTest {
+
+    private static final PageCursor CURSOR = new PageCursor(
+            OffsetDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000, ZoneOffset.UTC),
+            UUID.fromString("3f2b8c1e-9d4a-4e6b-8a7f-0c1d2e3f4a5b"));
+
+    @Test
+    void decodeReturnsTheEncodedPosition() {
+        String token = CURSOR.encode();
+
+        assertThat(PageCursor.decode(token)).isEqualTo(CURSOR);
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void roundTripKeepsTheOffset() {
+        PageCursor cursor = new PageCursor(CURSOR.createdAt().withOffsetSameInstant(ZoneOffset.ofHours(9)), CURSOR.id());
+
+        assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsTamperedTokens() {
+        String token = CURSOR.encode();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(token.substring(0, token.length() / 2)))
+                .withMessage("Invalid page cursor");
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(token + "!"))
+                .withMessage("Invalid page cursor");
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode(CURSOR.createdAt() + "|not-an-id")))
+                .withMessage("Invalid page cursor");
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode("yesterday|" + CURSOR.id())))
+                .withMessage("Invalid page cursor");
+        assertThatIllegalArgumentException().isThrownBy(() -> PageCursor.decode(encode(CURSOR.id().toString())))
+                .withMessage("Invalid page cursor");
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,187 @@
+package com.umamusume.backend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umamusume.backend.DatasetSeeder;
+import com.umamusume.backend.PostgresIntegrationTest;
+import com.umamusume.backend.RecordingStatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the lookup queries behind the V9 indexes, and race candidate selection
+ * behind the V4 partial index, against a seeded database and asserts, from
+ * {@code EXPLAIN (FORMAT JSON)}, that none of them falls back to a sequential
+ * scan. The SQL explained is exactly what Hibernate generated for the
+ * repository method, with the call's arguments inlined or, for a generic
+ * plan, bound to a prepared statement.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest extends PostgresIntegrationTest {
+
+    // Large enough that the planner prefers indexes, small enough to seed in seconds
+    private static final int USERS = 5_000;
+    private static final int HORSES = 50_000;
+    private static final int COMPLETED_RACES = 20_000;
+    private static final int UPCOMING_RACES = 400;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private HorseRepository horseRepository;
+
+    @Autowired
+    private RaceRepository raceRepository;
+
+    @Autowired
+    private RaceResultRepository raceResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed(@Autowired DataSource dataSource, @Autowired ConfigurableApplicationContext context) throws Exception {
+        new DatasetSeeder(dataSource, context, USERS, HORSES, COMPLETED_RACES, UPCOMING_RACES, 8, 42).seed();
+    }
+
+    @Test
+    void findByOwnerIdUsesAnIndex() {
+        UUID ownerId = jdbcTemplate.queryForObject("SELECT owner_id FROM horses LIMIT 1", UUID.class);
+        assertNoSeqScan(sqlOf(() -> horseRepository.findByOwnerId(ownerId)), ownerId);
+    }
+
+    @Test
+    void findByRaceIdUsesAnIndex() {
+        UUID raceId = jdbcTemplate.queryForObject("SELECT race_id FROM race_results LIMIT 1", UUID.class);
+        assertNoSeqScan(sqlOf(() -> raceResultRepository.findByRaceId(raceId)), raceId);
+    }
+
+    @Test
+    void findByHorseIdUsesAnIndex() {
+        UUID horseId = jdbcTemplate.queryForObject("SELECT horse_id FROM race_results LIMIT 1", UUID.class);
+        assertNoSeqScan(sqlOf(() -> raceResultRepository.findByHorseId(horseId)), horseId);
+    }
+
+    @Test
+    void findByScheduledAtAfterUsesAnIndex() {
+        OffsetDateTime now = OffsetDateTime.now();
+        assertNoSeqScan(sqlOf(() -> raceRepository.findByScheduledAtAfter(now)), now);
+    }
+
+    @Test
+    void findByScheduledAtBetweenUsesAnIndex() {
+        OffsetDateTime start = OffsetDateTime.now().minusDays(7);
+        OffsetDateTime end = start.plusDays(1);
+        assertNoSeqScan(sqlOf(() -> raceRepository.findByScheduledAtBetween(start, end)), start, end);
+    }
+
+    @Test
+    void upcomingRacesUseTheOpenRacesIndex() {
+        OffsetDateTime now = OffsetDateTime.now();
+        assertNoSeqScan(sqlOf(() -> raceRepository.findByIsCompletedFalseAndScheduledAtAfterOrderByScheduledAt(now)),
+                now);
+    }
+
+    // Forces a generic plan, as a reused server-side prepared statement gets, to check the partial index still applies
+    @Test
+    void raceCandidatesUseThePartialIndexWithAGenericPlan() {
+        String sql = sqlOf(() -> horseRepository.findRaceCandidates(1, 100, 8));
+        String plan = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE race_candidates AS " + numberParameters(sql));
+                try (ResultSet result = statement.executeQuery(
+                        "EXPLAIN (FORMAT JSON) EXECUTE race_candidates(1, 100, 8)")) {
+                    result.next();
+                    return result.getString(1);
+                } finally {
+                    statement.execute("DEALLOCATE race_candidates");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+        assertNoSeqScanIn(sql, plan);
+        assertThat(plan).as("plan for %s", sql).contains("idx_horses_race_candidates");
+    }
+
+    // The first statement the repository call prepared, i.e. the query itself
+    private static String sqlOf(Runnable repositoryCall) {
+        RecordingStatementInspector.drain();
+        repositoryCall.run();
+        List<String> statements = RecordingStatementInspector.drain();
+        assertThat(statements).isNotEmpty();
+        return statements.get(0);
+    }
+
+    private void assertNoSeqScan(String sql, Object... arguments) {
+        assertNoSeqScanIn(sql,
+                jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + inline(sql, arguments), String.class));
+    }
+
+    private static void assertNoSeqScanIn(String sql, String plan) {
+        List<String> scans = new ArrayList<>();
+        try {
+            collectScans(objectMapper.readTree(plan).get(0).get("Plan"), scans);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not read plan: " + plan, e);
+        }
+        assertThat(scans).as("plan for %s:%n%s", sql, plan).noneMatch(scan -> scan.startsWith("Seq Scan"));
+    }
+
+    private static void collectScans(JsonNode node, List<String> scans) {
+        scans.add(node.get("Node Type").asText() + " on " + node.path("Relation Name").asText("-"));
+        for (JsonNode child : node.path("Plans")) {
+            collectScans(child, scans);
+        }
+    }
+
+    // Binds the arguments in order as typed literals; none of these queries has a literal '?'
+    private static String inline(String sql, Object... arguments) {
+        StringBuilder out = new StringBuilder();
+        int next = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                out.append(literal(arguments[next++]));
+            } else {
+                out.append(c);
+            }
+        }
+        assertThat(next).as("bound parameters of %s", sql).isEqualTo(arguments.length);
+        return out.toString();
+    }
+
+    // Rewrites JDBC '?' markers as PREPARE's $1, $2, ...
+    private static String numberParameters(String sql) {
+        StringBuilder out = new StringBuilder();
+        int next = 0;
+        for (char c : sql.toCharArray()) {
+            out.append(c == '?' ? "$" + ++next : String.valueOf(c));
+        }
+        return out.toString();
+    }
+
+    private static String literal(Object value) {
+        if (value instanceof UUID) {
+            return "'" + value + "'::uuid";
+        }
+        if (value instanceof OffsetDateTime) {
+            return "'" + value + "'::timestamptz";
+        }
+        throw new IllegalArgumentException("Unsupported parameter type: " + value.getClass());
+    }
+}
@@ -0,0 +1,82 @@
+package com.umamusume.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatisticTreeTest {
+
+    private static final Comparator<OrderStatisticTree.Ranked> RANKING =
+            Comparator.comparingDouble(OrderStatisticTree.Ranked::score).reversed()
+                    .thenComparing(OrderStatisticTree.Ranked::id);
+
+    private final Random random = new Random(7);
+
+    @Test
+    void rankAndTopMatchASortedList() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        List<OrderStatisticTree.Ranked> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            // Few distinct scores, so many entries tie and are ordered by id
+            OrderStatisticTree.Ranked entry = new OrderStatisticTree.Ranked(randomId(), random.nextInt(50));
+            tree.insert(entry.score(), entry.id());
+            expected.add(entry);
+        }
+        expected.sort(RANKING);
+
+        assertRanks(tree, expected);
+    }
+
+    @Test
+    void removeKeepsRanksConsistent() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        List<OrderStatisticTree.Ranked> expected = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            OrderStatisticTree.Ranked entry = new OrderStatisticTree.Ranked(randomId(), random.nextDouble() * 100);
+            tree.insert(entry.score(), entry.id());
+            expected.add(entry);
+        }
+        for (int i = 0; i < 400; i++) {
+            OrderStatisticTree.Ranked removed = expected.remove(random.nextInt(expected.size()));
+            tree.remove(removed.score(), removed.id());
+        }
+        // Removing an entry that is not there changes nothing
+        tree.remove(42.0, randomId());
+        expected.sort(RANKING);
+
+        assertRanks(tree, expected);
+    }
+
+    @Test
+    void rankOfAMissingEntryIsWhereItWouldBeInserted() {
+        OrderStatisticTree tree = new OrderStatisticTree();
+        tree.insert(30.0, new UUID(0, 1));
+        tree.insert(20.0, new UUID(0, 2));
+        tree.insert(10.0, new UUID(0, 3));
+
+        assertThat(tree.rank(40.0, new UUID(0, 9))).isZero();
+        assertThat(tree.rank(20.0, new UUID(0, 1))).isEqualTo(1);
+        assertThat(tree.rank(20.0, new UUID(0, 3))).isEqualTo(2);
+        assertThat(tree.rank(5.0, new UUID(0, 9))).isEqualTo(3);
+    }
+
+    private static void assertRanks(OrderStatisticTree tree, List<OrderStatisticTree.Ranked> expected) {
+        assertThat(tree.size()).isEqualTo(expected.size());
+        assertThat(tree.top(expected.size() + 10)).containsExactlyElementsOf(expected);
+        assertThat(tree.top(25)).containsExactlyElementsOf(expected.subList(0, 25));
+        for (int i = 0; i < expected.size(); i++) {
+            OrderStatisticTree.Ranked entry = expected.get(i);
+            assertThat(tree.rank(entry.score(), entry.id())).as("rank of %s", entry).isEqualTo(i);
+        }
+    }
+
+    private UUID randomId() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,68 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.dto.LineageNodeDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PedigreeCoancestryTest {
+
+    private final Map<UUID, LineageNodeDto> nodes = new HashMap<>();
+
+    @Test
+    void fullSiblingsHaveCoefficientOneQuarter() {
+        UUID sire = horse(null, null);
+        UUID dam = horse(null, null);
+        UUID brother = horse(sire, dam);
+        UUID sister = horse(sire, dam);
+
+        assertThat(coancestry(brother, sister)).isEqualTo(0.25, within(1e-12));
+    }
+
+    @Test
+    void parentAndOffspringHaveCoefficientOneQuarter() {
+        UUID sire = horse(null, null);
+        UUID dam = horse(null, null);
+        UUID foal = horse(sire, dam);
+
+        assertThat(coancestry(sire, foal)).isEqualTo(0.25, within(1e-12));
+        assertThat(coancestry(foal, dam)).isEqualTo(0.25, within(1e-12));
+    }
+
+    @Test
+    void halfSiblingsAndUnrelatedHorses() {
+        UUID sire = horse(null, null);
+        UUID foal = horse(sire, horse(null, null));
+        UUID halfSibling = horse(sire, horse(null, null));
+
+        assertThat(coancestry(foal, halfSibling)).isEqualTo(0.125, within(1e-12));
+        assertThat(coancestry(horse(null, null), horse(null, null))).isZero();
+        assertThat(coancestry(foal, UUID.randomUUID())).isZero();
+    }
+
+    @Test
+    void selfCoancestryIncludesTheHorsesOwnInbreeding() {
+        UUID sire = horse(null, null);
+        UUID dam = horse(null, null);
+        UUID inbred = horse(horse(sire, dam), horse(sire, dam));
+
+        // (1 + f(parents)) / 2, and the parents are full siblings
+        assertThat(coancestry(inbred, inbred)).isEqualTo(0.625, within(1e-12));
+        assertThat(coancestry(sire, sire)).isEqualTo(0.5, within(1e-12));
+    }
+
+    private double coancestry(UUID a, UUID b) {
+        return new PedigreeService.Coancestry(nodes).of(a, b);
+    }
+
+    private UUID horse(UUID sireId, UUID damId) {
+        UUID id = UUID.randomUUID();
+        nodes.put(id, new LineageNodeDto(id, "Horse " + nodes.size(), sireId, damId, 0));
+        return id;
+    }
+}
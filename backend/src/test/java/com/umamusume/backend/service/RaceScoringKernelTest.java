@@ -0,0 +1,78 @@
+package com.umamusume.backend.service;
+
+import com.umamusume.backend.entity.Horse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RaceScoringKernelTest {
+
+    @Test
+    void tiedHorsesFinishInInputOrder() {
+        // Above the insertion sort threshold, so the quicksort path runs too
+        List<Horse> field = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            field.add(horse("Horse " + i, 40 + 10 * (i % 4)));
+        }
+        RaceScoringKernel kernel = RaceScoringKernel.of(field);
+
+        // Every roll is the same, so performance follows strength and equal stats tie
+        RandomGenerator constant = () -> 0L;
+        kernel.run(constant);
+
+        List<Integer> expected = IntStream.range(0, field.size()).boxed()
+                .sorted(Comparator.comparingDouble(kernel::strength).reversed())
+                .toList();
+        assertThat(finishingOrder(kernel)).containsExactlyElementsOf(expected);
+        assertThat(finishingOrder(kernel).subList(0, 10)).containsExactly(3, 7, 11, 15, 19, 23, 27, 31, 35, 39);
+    }
+
+    @Test
+    void finishingOrderSortsPerformanceDescending() {
+        List<Horse> field = new ArrayList<>();
+        SplittableRandom stats = new SplittableRandom(1);
+        for (int i = 0; i < 100; i++) {
+            field.add(horse("Horse " + i, 1 + stats.nextInt(100)));
+        }
+        RaceScoringKernel kernel = RaceScoringKernel.of(field);
+        kernel.run(new SplittableRandom(99));
+
+        List<Integer> expected = IntStream.range(0, field.size()).boxed()
+                .sorted(Comparator.comparingDouble(kernel::performance).reversed())
+                .toList();
+        assertThat(finishingOrder(kernel)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void sameSeedGivesSameResult() {
+        List<Horse> field = List.of(horse("A", 60), horse("B", 70), horse("C", 80));
+        RaceScoringKernel first = RaceScoringKernel.of(field);
+        RaceScoringKernel second = RaceScoringKernel.of(field);
+        first.run(new SplittableRandom(5));
+        second.run(new SplittableRandom(5));
+
+        assertThat(finishingOrder(first)).isEqualTo(finishingOrder(second));
+        assertThat(first.performance(0)).isEqualTo(second.performance(0));
+    }
+
+    private static List<Integer> finishingOrder(RaceScoringKernel kernel) {
+        return IntStream.range(0, kernel.size()).mapToObj(kernel::finisher).toList();
+    }
+
+    private static Horse horse(String name, int stat) {
+        Horse horse = new Horse(name, null);
+        horse.setSpeed(stat);
+        horse.setStamina(stat);
+        horse.setPower(stat);
+        horse.setGuts(stat);
+        horse.setIntelligence(stat);
+        return horse;
+    }
+}
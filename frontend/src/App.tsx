@@ -8,6 +8,8 @@ function App() {
   const [users, setUsers] = useState<UserDto[]>([])
   const [horses, setHorses] = useState<HorseDto[]>([])
   const [races, setRaces] = useState<RaceDto[]>([])
+  const [horsesCursor, setHorsesCursor] = useState<string | null>(null)
+  const [racesCursor, setRacesCursor] = useState<string | null>(null)
   const [selectedHorse, setSelectedHorse] = useState<HorseDto | null>(null)
   const [selectedRace, setSelectedRace] = useState<RaceDto | null>(null)
   const [raceResults, setRaceResults] = useState<RaceResultDto[]>([])
@@ -19,14 +21,16 @@ function App() {
     try {
       setLoading(true)
       setError(null)
-      const [usersData, horsesData, racesData] = await Promise.all([
+      const [usersData, horsesPage, racesPage] = await Promise.all([
         UsersApi.list(),
-        HorsesApi.list(), 
-        RacesApi.list()
+        HorsesApi.page(),
+        RacesApi.page()
       ])
       setUsers(usersData)
-      setHorses(horsesData)
-      setRaces(racesData)
+      setHorses(horsesPage.items)
+      setHorsesCursor(horsesPage.nextCursor)
+      setRaces(racesPage.items)
+      setRacesCursor(racesPage.nextCursor)
     } catch (err: any) {
       setError(err.message)
     } finally {
@@ -34,6 +38,35 @@ function App() {
     }
   }
 
+  const loadMoreHorses = async () => {
+    if (!horsesCursor) return
+    try {
+      const next = await HorsesApi.page(horsesCursor)
+      setHorses((loaded) => [...loaded, ...next.items])
+      setHorsesCursor(next.nextCursor)
+    } catch (err: any) {
+      setError(err.message)
+    }
+  }
+
+  const loadMoreRaces = async () => {
+    if (!racesCursor) return
+    try {
+      const next = await RacesApi.page(racesCursor)
+      setRaces((loaded) => [...loaded, ...next.items])
+      setRacesCursor(next.nextCursor)
+    } catch (err: any) {
+      setError(err.message)
+    }
+  }
+
+  // Re-fetches one horse in place so the pages already loaded stay put
+  const refreshHorse = async (horseId: string) => {
+    const updated = await HorsesApi.get(horseId)
+    setHorses((loaded) => loaded.map((h) => (h.id === horseId ? updated : h)))
+    setSelectedHorse((selected) => (selected?.id === horseId ? updated : selected))
+  }
+
   const simulateRace = async (raceId: string) => {
     try {
       const results = await GameApi.simulateRace(raceId)
@@ -47,7 +80,7 @@ function App() {
   const trainHorse = async (horseId: string, statType: string, points: number) => {
     try {
       await GameApi.trainHorse(horseId, { statType, points })
-      await loadData()
+      await refreshHorse(horseId)
     } catch (err: any) {
       setError(err.message)
     }
@@ -56,7 +89,7 @@ function App() {
   const restHorse = async (horseId: string) => {
     try {
       await GameApi.restHorse(horseId)
-      await loadData()
+      await refreshHorse(horseId)
     } catch (err: any) {
       setError(err.message)
     }
@@ -100,7 +133,7 @@ function App() {
             borderRadius: '4px 4px 0 0'
           }}
         >
-          🐎 Horses ({horses.length})
+          🐎 Horses ({horses.length}{horsesCursor ? '+' : ''})
         </button>
         <button 
           onClick={() => setActiveTab('races')}
@@ -114,7 +147,7 @@ function App() {
             borderRadius: '4px 4px 0 0'
           }}
         >
-          🏁 Races ({races.length})
+          🏁 Races ({races.length}{racesCursor ? '+' : ''})
         </button>
         <button 
           onClick={() => setActiveTab('training')}
@@ -220,6 +253,23 @@ function App() {
               </div>
             ))}
           </div>
+
+          {horsesCursor && (
+            <div style={{ marginTop: 16, textAlign: 'center' }}>
+              <button 
+                onClick={loadMoreHorses}
+                style={{
+                  padding: '8px 24px',
+                  background: '#f8f9fa',
+                  border: '1px solid #ddd',
+                  borderRadius: 4,
+                  cursor: 'pointer'
+                }}
+              >
+                Load more horses
+              </button>
+            </div>
+          )}
         </div>
       )}
 
@@ -269,13 +319,30 @@ function App() {
             ))}
           </div>
 
+          {racesCursor && (
+            <div style={{ marginTop: 16, textAlign: 'center' }}>
+              <button 
+                onClick={loadMoreRaces}
+                style={{
+                  padding: '8px 24px',
+                  background: '#f8f9fa',
+                  border: '1px solid #ddd',
+                  borderRadius: 4,
+                  cursor: 'pointer'
+                }}
+              >
+                Load more races
+              </button>
+            </div>
+          )}
+
           {/* Race Results */}
           {raceResults.length > 0 && (
             <div style={{ marginTop: 32 }}>
               <h3>🏆 Latest Race Results</h3>
               <div style={{ border: '1px solid #ddd', borderRadius: 8, padding: 16 }}>
                 {raceResults.map((result, index) => (
-                  <div key={result.id} style={{ 
+                  <div key={result.horseId} style={{ 
                     display: 'flex', 
                     justifyContent: 'space-between', 
                     alignItems: 'center',
@@ -287,7 +354,7 @@ function App() {
                         {result.position === 1 ? '🥇' : result.position === 2 ? '🥈' : result.position === 3 ? '🥉' : '🏃'}
                         #{result.position}
                       </span>
-                      <span>{result.horse.name}</span>
+                      <span>{result.horseName}</span>
                     </div>
                     <div style={{ textAlign: 'right' }}>
                       <div>Time: {result.raceTime.toFixed(2)}s</div>
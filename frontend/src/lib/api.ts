@@ -2,6 +2,7 @@ import type {
   CreateHorseRequest,
   CreateRaceRequest,
   CreateUserRequest,
+  CursorPage,
   HorseDto,
   RaceDto,
   RaceResultDto,
@@ -15,6 +16,14 @@ import type {
 
 const BASE = "/api/v1";
 
+function pageQuery(cursor?: string, limit?: number): string {
+  const params = new URLSearchParams();
+  if (cursor) params.set("cursor", cursor);
+  if (limit) params.set("limit", String(limit));
+  const query = params.toString();
+  return query ? `?${query}` : "";
+}
+
 async function request<T>(input: RequestInfo, init?: RequestInit): Promise<T> {
   const res = await fetch(input, {
     headers: { "Content-Type": "application/json" },
@@ -29,7 +38,10 @@ async function request<T>(input: RequestInfo, init?: RequestInit): Promise<T> {
 
 export const UsersApi = {
   list(): Promise<UserDto[]> {
-    return request<UserDto[]>(`${BASE}/users`);
+    return UsersApi.page().then((page) => page.items);
+  },
+  page(cursor?: string, limit?: number): Promise<CursorPage<UserDto>> {
+    return request<CursorPage<UserDto>>(`${BASE}/users${pageQuery(cursor, limit)}`);
   },
   get(id: string): Promise<UserDto> {
     return request<UserDto>(`${BASE}/users/${id}`);
@@ -53,7 +65,10 @@ export const UsersApi = {
 
 export const HorsesApi = {
   list(): Promise<HorseDto[]> {
-    return request<HorseDto[]>(`${BASE}/horses`);
+    return HorsesApi.page().then((page) => page.items);
+  },
+  page(cursor?: string, limit?: number): Promise<CursorPage<HorseDto>> {
+    return request<CursorPage<HorseDto>>(`${BASE}/horses${pageQuery(cursor, limit)}`);
   },
   get(id: string): Promise<HorseDto> {
     return request<HorseDto>(`${BASE}/horses/${id}`);
@@ -80,7 +95,10 @@ export const HorsesApi = {
 
 export const RacesApi = {
   list(): Promise<RaceDto[]> {
-    return request<RaceDto[]>(`${BASE}/races`);
+    return RacesApi.page().then((page) => page.items);
+  },
+  page(cursor?: string, limit?: number): Promise<CursorPage<RaceDto>> {
+    return request<CursorPage<RaceDto>>(`${BASE}/races${pageQuery(cursor, limit)}`);
   },
   get(id: string): Promise<RaceDto> {
     return request<RaceDto>(`${BASE}/races/${id}`);
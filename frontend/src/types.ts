@@ -37,12 +37,13 @@ export interface RaceDto {
   trackCondition: string;
   isCompleted: boolean;
   createdAt: string;
+  seed?: number; // only once the race has run
 }
 
 export interface RaceResultDto {
-  id: string;
-  race: RaceDto;
-  horse: HorseDto;
+  raceId: string;
+  horseId: string;
+  horseName: string;
   position: number;
   earnings: number;
   raceTime: number;
@@ -50,6 +51,11 @@ export interface RaceResultDto {
   createdAt: string;
 }
 
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+}
+
 export interface CreateUserRequest {
   username: string;
 }
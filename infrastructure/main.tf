@@ -104,6 +104,7 @@ module "database" {
   vpc_id                = module.network.vpc_id
   private_subnet_ids    = module.network.private_subnet_ids
   app_security_group_id = module.compute.security_group_id
+  read_replica_count    = var.db_read_replica_count
   db_username           = var.db_username
   db_password           = var.db_password
 }
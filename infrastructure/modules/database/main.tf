@@ -36,6 +36,20 @@ resource "aws_db_instance" "this" {
   skip_final_snapshot     = true
   db_subnet_group_name    = aws_db_subnet_group.this.name
   vpc_security_group_ids  = [aws_security_group.db_sg.id]
+  # RDS only replicates from instances with automated backups enabled
+  backup_retention_period = var.read_replica_count > 0 ? 1 : null
 
   tags = { Name = "${var.project}-db" }
 }
+
+# Read-only copies that take the backend's read-only transactions off the primary
+resource "aws_db_instance" "replica" {
+  count                  = var.read_replica_count
+  identifier             = "${var.project}-db-replica-${count.index + 1}"
+  replicate_source_db    = aws_db_instance.this.identifier
+  instance_class         = var.instance_class
+  skip_final_snapshot    = true
+  vpc_security_group_ids = [aws_security_group.db_sg.id]
+
+  tags = { Name = "${var.project}-db-replica-${count.index + 1}" }
+}
@@ -3,6 +3,11 @@ output "db_endpoint" {
   value       = aws_db_instance.this.endpoint
 }
 
+output "db_replica_endpoints" {
+  description = "Read replica endpoints"
+  value       = aws_db_instance.replica[*].endpoint
+}
+
 output "db_security_group_id" {
   description = "Database security group"
   value       = aws_security_group.db_sg.id
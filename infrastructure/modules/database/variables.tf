@@ -36,6 +36,12 @@ variable "allocated_storage" {
   default     = 20
 }
 
+variable "read_replica_count" {
+  description = "Number of read replicas of the primary"
+  type        = number
+  default     = 0
+}
+
 variable "db_username" {
   description = "Master DB username"
   type        = string
@@ -50,6 +50,11 @@ output "db_endpoint" {
   value       = module.database.db_endpoint
 }
 
+output "db_replica_endpoints" {
+  description = "Database read replica endpoints"
+  value       = module.database.db_replica_endpoints
+}
+
 output "db_security_group_id" {
   description = "Security group ID for the database"
   value       = module.database.db_security_group_id
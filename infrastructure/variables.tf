@@ -67,3 +67,9 @@ variable "db_password" {
   type        = string
   sensitive   = true
 }
+
+variable "db_read_replica_count" {
+  description = "Number of database read replicas"
+  type        = number
+  default     = 0
+}